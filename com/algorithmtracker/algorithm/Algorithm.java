@@ -47,6 +47,7 @@ public interface Algorithm {
     enum AlgorithmCategory {
         SORTING("Sorting"),
         SEARCHING("Searching"),
+        SELECTION("Selection"),
         GRAPH("Graph"),
         DYNAMIC_PROGRAMMING("Dynamic Programming");
         
@@ -0,0 +1,483 @@
+package com.algorithmtracker.algorithm;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * External Merge Sort implementation for binary files of ints that do not fit in the heap.
+ * Reads fixed-size chunks through a FileChannel, sorts each chunk with an in-memory
+ * sorting algorithm, spills the sorted runs to temporary files, and merges them
+ * with a k-way merge driven by a primitive min-heap.
+ * Files hold 32-bit big-endian ints, the format written by DataOutputStream.
+ */
+public class ExternalMergeSort implements InstrumentedAlgorithm {
+    
+    /** Default number of ints sorted in memory per run (64 MB). */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 24;
+    
+    /** Default maximum number of runs merged at once. */
+    public static final int DEFAULT_MERGE_FACTOR = 64;
+    
+    /** Size of the buffer used by each reader and writer. */
+    private static final int IO_BUFFER_BYTES = 1 << 20;
+    
+    private final InPlaceSort chunkSorter;
+    private final int chunkSize;
+    private final int mergeFactor;
+    private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+    
+    /**
+     * Constructs an external merge sort that sorts chunks with Pattern-Defeating Quick Sort
+     * using the default chunk size and merge factor.
+     */
+    public ExternalMergeSort() {
+        this(new SortingAlgorithms.PatternDefeatingQuickSort(), DEFAULT_CHUNK_SIZE, DEFAULT_MERGE_FACTOR);
+    }
+    
+    /**
+     * Constructs an external merge sort.
+     * 
+     * @param chunkSorter The in-memory algorithm used to sort each chunk
+     * @param chunkSize The number of ints sorted in memory per run
+     * @param mergeFactor The maximum number of runs merged at once
+     */
+    public ExternalMergeSort(InPlaceSort chunkSorter, int chunkSize, int mergeFactor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1: " + chunkSize);
+        }
+        if (mergeFactor < 2) {
+            throw new IllegalArgumentException("Merge factor must be at least 2: " + mergeFactor);
+        }
+        this.chunkSorter = chunkSorter;
+        this.chunkSize = chunkSize;
+        this.mergeFactor = mergeFactor;
+    }
+    
+    /**
+     * Sorts the ints in the input file and writes them to the output file.
+     * Temporary run files are created in a fresh temporary directory and deleted afterwards.
+     * 
+     * @param input The file to sort
+     * @param output The file to write the sorted ints to; replaced if it exists
+     * @throws IOException If an I/O error occurs
+     */
+    public void sort(Path input, Path output) throws IOException {
+        long startTime = System.nanoTime();
+        long bytes = Files.size(input);
+        
+        if (bytes % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("File length is not a multiple of " + Integer.BYTES + " bytes: " + input);
+        }
+        
+        long totalInts = bytes / Integer.BYTES;
+        Path tempDirectory = Files.createTempDirectory("external-sort");
+        int spilledRuns;
+        int mergePasses = 0;
+        
+        try {
+            List<Path> runs = createSortedRuns(input, totalInts, tempDirectory);
+            spilledRuns = runs.size();
+            
+            // Reduce the number of runs until one final merge can handle them all
+            while (runs.size() > mergeFactor) {
+                runs = mergePass(runs, tempDirectory);
+                spilledRuns += runs.size();
+                mergePasses++;
+            }
+            
+            if (runs.size() == 1) {
+                Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                merge(runs, output);
+                if (!runs.isEmpty()) {
+                    mergePasses++;
+                }
+            }
+        } finally {
+            deleteTemporaryFiles(tempDirectory);
+        }
+        
+        double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        double megabytes = bytes / (1024.0 * 1024.0);
+        
+        Map<String, String> details = new LinkedHashMap<>();
+        details.put("Ints sorted", String.valueOf(totalInts));
+        details.put("Data size (MB)", String.format("%.1f", megabytes));
+        details.put("Chunk sorter", chunkSorter.getName());
+        details.put("Spilled runs", String.valueOf(spilledRuns));
+        details.put("Merge passes", String.valueOf(mergePasses));
+        details.put("Throughput (MB/s)", String.format("%.1f", seconds > 0 ? megabytes / seconds : 0));
+        lastRunDetails = details;
+    }
+    
+    /**
+     * Reads the input in chunks, sorts each chunk in memory and writes it to its own run file.
+     * 
+     * @param input The file to sort
+     * @param totalInts The number of ints in the file
+     * @param tempDirectory The directory for run files
+     * @return The run files in creation order
+     * @throws IOException If an I/O error occurs
+     */
+    private List<Path> createSortedRuns(Path input, long totalInts, Path tempDirectory) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        if (totalInts == 0) {
+            return runs;
+        }
+        
+        // One chunk array and one I/O buffer are reused for every run
+        int[] chunk = new int[(int) Math.min(chunkSize, totalInts)];
+        ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_BYTES);
+        
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long remaining = totalInts;
+            
+            while (remaining > 0) {
+                int count = (int) Math.min(chunk.length, remaining);
+                readInts(in, buffer, chunk, count);
+                chunkSorter.sortInPlace(chunk, 0, count);
+                
+                Path run = Files.createTempFile(tempDirectory, "run", ".bin");
+                try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)) {
+                    writeInts(out, buffer, chunk, count);
+                }
+                
+                runs.add(run);
+                remaining -= count;
+            }
+        }
+        
+        return runs;
+    }
+    
+    /**
+     * Merges groups of up to mergeFactor runs into longer runs, deleting the merged inputs.
+     * 
+     * @param runs The runs to merge
+     * @param tempDirectory The directory for run files
+     * @return The merged runs
+     * @throws IOException If an I/O error occurs
+     */
+    private List<Path> mergePass(List<Path> runs, Path tempDirectory) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        
+        for (int start = 0; start < runs.size(); start += mergeFactor) {
+            List<Path> group = runs.subList(start, Math.min(start + mergeFactor, runs.size()));
+            Path run = Files.createTempFile(tempDirectory, "run", ".bin");
+            merge(group, run);
+            
+            for (Path consumed : group) {
+                Files.delete(consumed);
+            }
+            merged.add(run);
+        }
+        
+        return merged;
+    }
+    
+    /**
+     * Merges sorted run files into one sorted output file.
+     * The heap stores each run's current head value next to the run index in parallel int arrays.
+     * 
+     * @param runs The sorted runs to merge
+     * @param output The file to write the merged ints to
+     * @throws IOException If an I/O error occurs
+     */
+    private void merge(List<Path> runs, Path output) throws IOException {
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        int[] heapValues = new int[runs.size()];
+        int[] heapRuns = new int[runs.size()];
+        int heapSize = 0;
+        
+        try (RunWriter writer = new RunWriter(output)) {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run);
+                readers.add(reader);
+                if (reader.hasNext()) {
+                    heapValues[heapSize] = reader.next();
+                    heapRuns[heapSize] = readers.size() - 1;
+                    heapSize++;
+                }
+            }
+            
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heapValues, heapRuns, i, heapSize);
+            }
+            
+            while (heapSize > 0) {
+                writer.write(heapValues[0]);
+                
+                // Replace the head with the next value of the same run, or drop the exhausted run
+                RunReader reader = readers.get(heapRuns[0]);
+                if (reader.hasNext()) {
+                    heapValues[0] = reader.next();
+                } else {
+                    heapSize--;
+                    heapValues[0] = heapValues[heapSize];
+                    heapRuns[0] = heapRuns[heapSize];
+                }
+                siftDown(heapValues, heapRuns, 0, heapSize);
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+    
+    /**
+     * Restores the min-heap property for the heap stored in the parallel value and run arrays.
+     * 
+     * @param values The head value of each heap entry
+     * @param runs The run index of each heap entry
+     * @param node The heap index to sift down
+     * @param size The number of entries in the heap
+     */
+    private static void siftDown(int[] values, int[] runs, int node, int size) {
+        int value = values[node];
+        int run = runs[node];
+        
+        while (true) {
+            int child = 2 * node + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && values[child + 1] < values[child]) {
+                child++;
+            }
+            if (values[child] >= value) {
+                break;
+            }
+            values[node] = values[child];
+            runs[node] = runs[child];
+            node = child;
+        }
+        
+        values[node] = value;
+        runs[node] = run;
+    }
+    
+    /**
+     * Reads exactly count ints from a channel into an array.
+     * 
+     * @param channel The channel to read from
+     * @param buffer The buffer used for the transfer; its capacity must be a multiple of four
+     * @param destination The array to fill from index 0
+     * @param count The number of ints to read
+     * @throws IOException If an I/O error occurs or the channel ends early
+     */
+    private static void readInts(FileChannel channel, ByteBuffer buffer, int[] destination, int count) throws IOException {
+        int filled = 0;
+        
+        while (filled < count) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), (long) (count - filled) * Integer.BYTES));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Unexpected end of file after " + filled + " ints");
+                }
+            }
+            buffer.flip();
+            
+            int ints = buffer.remaining() / Integer.BYTES;
+            buffer.asIntBuffer().get(destination, filled, ints);
+            filled += ints;
+        }
+    }
+    
+    /**
+     * Writes count ints from an array to a channel.
+     * 
+     * @param channel The channel to write to
+     * @param buffer The buffer used for the transfer; its capacity must be a multiple of four
+     * @param source The array to write from index 0
+     * @param count The number of ints to write
+     * @throws IOException If an I/O error occurs
+     */
+    private static void writeInts(FileChannel channel, ByteBuffer buffer, int[] source, int count) throws IOException {
+        int written = 0;
+        
+        while (written < count) {
+            int ints = Math.min(buffer.capacity() / Integer.BYTES, count - written);
+            buffer.clear();
+            buffer.asIntBuffer().put(source, written, ints);
+            buffer.limit(ints * Integer.BYTES);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            written += ints;
+        }
+    }
+    
+    /**
+     * Deletes the temporary directory and any run files left in it.
+     * 
+     * @param tempDirectory The temporary directory
+     * @throws IOException If an I/O error occurs
+     */
+    private static void deleteTemporaryFiles(Path tempDirectory) throws IOException {
+        try (var files = Files.list(tempDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(tempDirectory);
+    }
+    
+    /**
+     * Buffered sequential reader over a run file.
+     */
+    private static class RunReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private boolean endOfFile = false;
+        
+        RunReader(Path run) throws IOException {
+            channel = FileChannel.open(run, StandardOpenOption.READ);
+            // Short runs do not need a full-sized buffer
+            buffer = ByteBuffer.allocate((int) Math.min(IO_BUFFER_BYTES, Math.max(Integer.BYTES, channel.size())));
+            buffer.flip();
+        }
+        
+        /**
+         * Checks whether another int can be read, refilling the buffer if necessary.
+         * 
+         * @return true if another int is available
+         * @throws IOException If an I/O error occurs
+         */
+        boolean hasNext() throws IOException {
+            if (buffer.remaining() >= Integer.BYTES) {
+                return true;
+            }
+            if (endOfFile) {
+                return false;
+            }
+            
+            // Keep any partial int and fill the rest of the buffer
+            buffer.compact();
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    endOfFile = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            
+            return buffer.remaining() >= Integer.BYTES;
+        }
+        
+        /**
+         * Reads the next int. Must only be called after hasNext returned true.
+         * 
+         * @return The next int
+         */
+        int next() {
+            return buffer.getInt();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+    
+    /**
+     * Buffered sequential writer to a run or output file.
+     */
+    private static class RunWriter implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_BYTES);
+        
+        RunWriter(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        
+        /**
+         * Appends an int, flushing the buffer when it is full.
+         * 
+         * @param value The int to write
+         * @throws IOException If an I/O error occurs
+         */
+        void write(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+        
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+    
+    /**
+     * Gets the details of the most recent run: data size, chunk sorter, number of spilled
+     * run files, merge passes and throughput in MB/s of input.
+     * 
+     * @return The details of the most recent run
+     */
+    @Override
+    public Map<String, String> getLastRunDetails() {
+        return Collections.unmodifiableMap(lastRunDetails);
+    }
+    
+    /**
+     * Gets the number of ints sorted in memory per run.
+     * 
+     * @return The chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+    
+    @Override
+    public String getName() {
+        return "External Merge Sort";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Sorts files larger than memory by sorting fixed-size chunks in memory, spilling them as sorted runs to temporary files, and merging the runs with a k-way heap merge using large buffered reads and writes.";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n) comparisons, O(n log_k(n / M)) I/O for chunk size M and merge factor k";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(M + k * B) memory for chunk size M and buffer size B, O(n) disk";
+    }
+    
+    @Override
+    public AlgorithmCategory getCategory() {
+        return AlgorithmCategory.SORTING;
+    }
+}
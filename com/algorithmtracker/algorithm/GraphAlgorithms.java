@@ -1,10 +1,18 @@
 package com.algorithmtracker.algorithm;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Implementation of various graph algorithms.
- * Includes Depth-First Search, Breadth-First Search, and Dijkstra's Algorithm.
+ * Includes recursive and iterative Depth-First Search, Breadth-First Search with a boxed queue, a
+ * primitive queue, direction optimization or parallel levels, Dijkstra's Algorithm with a linear
+ * scan, an indexed d-ary heap or a lazy binary heap, and parallel delta-stepping shortest paths,
+ * each for both the adjacency list Graph and the compressed sparse row CsrGraph.
  */
 public class GraphAlgorithms {
     
@@ -109,6 +117,192 @@ public class GraphAlgorithms {
         }
     }
     
+    /**
+     * Represents a graph in compressed sparse row (CSR) form: the edges leaving vertex v are
+     * stored at positions offsets[v] to offsets[v + 1] - 1 of the targets and weights arrays.
+     * Three flat int arrays replace an object per edge, so large graphs take a fraction of the
+     * memory of Graph and neighbors are read sequentially. The graph is immutable once built.
+     */
+    public static class CsrGraph {
+        private final int vertices;
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] weights;
+        
+        /**
+         * Constructs a CSR graph from its arrays, which are used without copying.
+         * 
+         * @param offsets The start of each vertex's edges, with offsets[vertices] equal to the edge count
+         * @param targets The destination of each edge
+         * @param weights The weight of each edge
+         */
+        public CsrGraph(int[] offsets, int[] targets, int[] weights) {
+            if (offsets.length == 0 || offsets[0] != 0 || offsets[offsets.length - 1] != targets.length) {
+                throw new IllegalArgumentException("Offsets must start at 0 and end at the number of edges");
+            }
+            if (weights.length != targets.length) {
+                throw new IllegalArgumentException("Targets and weights must have the same length: " + targets.length + " != " + weights.length);
+            }
+            this.vertices = offsets.length - 1;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+        
+        /**
+         * Builds a CSR graph from an edge list. The edges of each vertex keep their order in
+         * the list, so traversals visit neighbors in the order the edges were added.
+         * 
+         * @param vertices The number of vertices
+         * @param sources The source of each edge
+         * @param destinations The destination of each edge
+         * @param edgeWeights The weight of each edge
+         * @param edgeCount The number of edges, which are the first edgeCount entries of the arrays
+         * @return The CSR graph
+         */
+        public static CsrGraph fromEdges(int vertices, int[] sources, int[] destinations, int[] edgeWeights, int edgeCount) {
+            int[] offsets = new int[vertices + 1];
+            for (int i = 0; i < edgeCount; i++) {
+                offsets[sources[i] + 1]++;
+            }
+            for (int v = 0; v < vertices; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            
+            // Place each edge at the next free position of its source, a stable counting sort
+            int[] next = Arrays.copyOf(offsets, vertices);
+            int[] targets = new int[edgeCount];
+            int[] weights = new int[edgeCount];
+            for (int i = 0; i < edgeCount; i++) {
+                int position = next[sources[i]]++;
+                targets[position] = destinations[i];
+                weights[position] = edgeWeights[i];
+            }
+            
+            return new CsrGraph(offsets, targets, weights);
+        }
+        
+        /**
+         * Converts an adjacency list graph, keeping the order of each vertex's edges.
+         * 
+         * @param graph The graph
+         * @return The CSR graph
+         */
+        public static CsrGraph fromGraph(Graph graph) {
+            int vertices = graph.getVertices();
+            int[] offsets = new int[vertices + 1];
+            for (int v = 0; v < vertices; v++) {
+                offsets[v + 1] = offsets[v] + graph.getAdjacencyList().get(v).size();
+            }
+            
+            int[] targets = new int[offsets[vertices]];
+            int[] weights = new int[offsets[vertices]];
+            for (int v = 0; v < vertices; v++) {
+                int position = offsets[v];
+                for (Graph.Edge edge : graph.getAdjacencyList().get(v)) {
+                    targets[position] = edge.getDestination();
+                    weights[position] = edge.getWeight();
+                    position++;
+                }
+            }
+            
+            return new CsrGraph(offsets, targets, weights);
+        }
+        
+        /**
+         * Builds the reverse graph, which has an edge v -> u of the same weight for every
+         * edge u -> v. Each vertex's incoming edges are ordered by source.
+         * 
+         * @return The reverse graph
+         */
+        public CsrGraph reverse() {
+            int[] reverseOffsets = new int[vertices + 1];
+            for (int target : targets) {
+                reverseOffsets[target + 1]++;
+            }
+            for (int v = 0; v < vertices; v++) {
+                reverseOffsets[v + 1] += reverseOffsets[v];
+            }
+            
+            int[] next = Arrays.copyOf(reverseOffsets, vertices);
+            int[] sources = new int[targets.length];
+            int[] reverseWeights = new int[targets.length];
+            for (int u = 0; u < vertices; u++) {
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int position = next[targets[i]]++;
+                    sources[position] = u;
+                    reverseWeights[position] = weights[i];
+                }
+            }
+            
+            return new CsrGraph(reverseOffsets, sources, reverseWeights);
+        }
+        
+        /**
+         * Gets the number of vertices in the graph.
+         * 
+         * @return The number of vertices
+         */
+        public int getVertices() {
+            return vertices;
+        }
+        
+        /**
+         * Gets the number of edges in the graph.
+         * 
+         * @return The number of edges
+         */
+        public int getEdgeCount() {
+            return targets.length;
+        }
+        
+        /**
+         * Gets the edge offsets. The array is shared, not copied, and must not be modified.
+         * 
+         * @return The start of each vertex's edges, followed by the edge count
+         */
+        public int[] getOffsets() {
+            return offsets;
+        }
+        
+        /**
+         * Gets the edge destinations. The array is shared, not copied, and must not be modified.
+         * 
+         * @return The destination of each edge
+         */
+        public int[] getTargets() {
+            return targets;
+        }
+        
+        /**
+         * Gets the edge weights. The array is shared, not copied, and must not be modified.
+         * 
+         * @return The weight of each edge
+         */
+        public int[] getWeights() {
+            return weights;
+        }
+        
+        /**
+         * Gets the number of edges leaving a vertex.
+         * 
+         * @param vertex The vertex
+         * @return The out-degree of the vertex
+         */
+        public int degree(int vertex) {
+            return offsets[vertex + 1] - offsets[vertex];
+        }
+        
+        /**
+         * Gets the memory used by the CSR arrays.
+         * 
+         * @return The size of the graph in bytes
+         */
+        public long sizeInBytes() {
+            return ((long) offsets.length + 2L * targets.length) * Integer.BYTES;
+        }
+    }
+    
     /**
      * Depth-First Search implementation.
      */
@@ -153,6 +347,45 @@ public class GraphAlgorithms {
             }
         }
         
+        /**
+         * Performs a Depth-First Search traversal of a CSR graph starting from the specified vertex.
+         * Visits the vertices in the same order as the adjacency list version.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @return A list of vertices in the order they were visited
+         */
+        public List<Integer> traverse(CsrGraph graph, int startVertex) {
+            boolean[] visited = new boolean[graph.getVertices()];
+            List<Integer> result = new ArrayList<>();
+            
+            dfsUtil(graph, startVertex, visited, result);
+            
+            return result;
+        }
+        
+        /**
+         * Recursive utility function for DFS on a CSR graph.
+         * 
+         * @param graph The graph to traverse
+         * @param vertex The current vertex
+         * @param visited Array to track visited vertices
+         * @param result List to store the traversal result
+         */
+        private void dfsUtil(CsrGraph graph, int vertex, boolean[] visited, List<Integer> result) {
+            visited[vertex] = true;
+            result.add(vertex);
+            
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+                int neighbor = targets[edge];
+                if (!visited[neighbor]) {
+                    dfsUtil(graph, neighbor, visited, result);
+                }
+            }
+        }
+        
         @Override
         public String getName() {
             return "Depth-First Search";
@@ -179,6 +412,165 @@ public class GraphAlgorithms {
         }
     }
     
+    /**
+     * Iterative Depth-First Search implementation with an explicit primitive stack.
+     */
+    public static class IterativeDepthFirstSearch implements Algorithm {
+        
+        /** Initial number of frames the stack can hold before it grows. */
+        private static final int INITIAL_STACK_FRAMES = 64;
+        
+        /** Frames of (vertex, index of the next edge to try), two ints each; reused across traversals. */
+        private int[] stack = new int[2 * INITIAL_STACK_FRAMES];
+        
+        /**
+         * Performs a Depth-First Search traversal of the graph starting from the specified vertex.
+         * Visits the vertices in the same order as the recursive DepthFirstSearch, but keeps
+         * its frames on a heap-allocated stack, so the depth is not limited by the call stack.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices in the order they were visited; must have room for every vertex
+         * @return The number of vertices visited
+         */
+        public int traverse(Graph graph, int startVertex, int[] order) {
+            checkOrderLength(order, graph.getVertices());
+            List<List<Graph.Edge>> adjacencyList = graph.getAdjacencyList();
+            boolean[] visited = new boolean[graph.getVertices()];
+            int count = 0;
+            int frames = 0;
+            
+            visited[startVertex] = true;
+            order[count++] = startVertex;
+            frames = push(frames, startVertex, 0);
+            
+            while (frames > 0) {
+                int frame = 2 * (frames - 1);
+                int vertex = stack[frame];
+                List<Graph.Edge> edges = adjacencyList.get(vertex);
+                
+                // Resume the scan of the top vertex's edges where it left off
+                int edge = stack[frame + 1];
+                while (edge < edges.size() && visited[edges.get(edge).getDestination()]) {
+                    edge++;
+                }
+                
+                if (edge == edges.size()) {
+                    frames--;
+                } else {
+                    int neighbor = edges.get(edge).getDestination();
+                    stack[frame + 1] = edge + 1;
+                    visited[neighbor] = true;
+                    order[count++] = neighbor;
+                    frames = push(frames, neighbor, 0);
+                }
+            }
+            
+            return count;
+        }
+        
+        /**
+         * Performs a Depth-First Search traversal of a CSR graph starting from the specified vertex.
+         * Visits the vertices in the same order as the recursive DepthFirstSearch; each frame
+         * holds the absolute position of the next edge to try in the CSR arrays.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices in the order they were visited; must have room for every vertex
+         * @return The number of vertices visited
+         */
+        public int traverse(CsrGraph graph, int startVertex, int[] order) {
+            checkOrderLength(order, graph.getVertices());
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            boolean[] visited = new boolean[graph.getVertices()];
+            int count = 0;
+            int frames = 0;
+            
+            visited[startVertex] = true;
+            order[count++] = startVertex;
+            frames = push(frames, startVertex, offsets[startVertex]);
+            
+            while (frames > 0) {
+                int frame = 2 * (frames - 1);
+                int end = offsets[stack[frame] + 1];
+                
+                // Resume the scan of the top vertex's edges where it left off
+                int edge = stack[frame + 1];
+                while (edge < end && visited[targets[edge]]) {
+                    edge++;
+                }
+                
+                if (edge == end) {
+                    frames--;
+                } else {
+                    int neighbor = targets[edge];
+                    stack[frame + 1] = edge + 1;
+                    visited[neighbor] = true;
+                    order[count++] = neighbor;
+                    frames = push(frames, neighbor, offsets[neighbor]);
+                }
+            }
+            
+            return count;
+        }
+        
+        /**
+         * Pushes a frame, growing the stack when it is full.
+         * 
+         * @param frames The number of frames on the stack
+         * @param vertex The vertex of the new frame
+         * @param nextEdge The index of the first edge to try
+         * @return The new number of frames
+         */
+        private int push(int frames, int vertex, int nextEdge) {
+            int frame = 2 * frames;
+            if (frame + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[frame] = vertex;
+            stack[frame + 1] = nextEdge;
+            return frames + 1;
+        }
+        
+        /**
+         * Validates the output array of a traversal.
+         * 
+         * @param order The output array
+         * @param vertices The number of vertices in the graph
+         */
+        private static void checkOrderLength(int[] order, int vertices) {
+            if (order.length < vertices) {
+                throw new IllegalArgumentException("Output length " + order.length + " is less than the number of vertices " + vertices);
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "Depth-First Search (iterative)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Depth-First Search driven by a growable int array of (vertex, next edge) frames instead of recursion, so deep graphs cannot overflow the call stack; visits vertices in the same order as the recursive version and writes them into a caller-supplied array.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V + E) where V is the number of vertices and E is the number of edges";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
     /**
      * Breadth-First Search implementation.
      */
@@ -219,6 +611,43 @@ public class GraphAlgorithms {
             return result;
         }
         
+        /**
+         * Performs a Breadth-First Search traversal of a CSR graph starting from the specified vertex.
+         * Visits the vertices in the same order as the adjacency list version. Every vertex
+         * is enqueued at most once, so an int array of one slot per vertex serves as the queue.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @return A list of vertices in the order they were visited
+         */
+        public List<Integer> traverse(CsrGraph graph, int startVertex) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            boolean[] visited = new boolean[graph.getVertices()];
+            List<Integer> result = new ArrayList<>();
+            int[] queue = new int[graph.getVertices()];
+            int head = 0;
+            int tail = 0;
+            
+            visited[startVertex] = true;
+            queue[tail++] = startVertex;
+            
+            while (head < tail) {
+                int vertex = queue[head++];
+                result.add(vertex);
+                
+                for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+                    int neighbor = targets[edge];
+                    if (!visited[neighbor]) {
+                        visited[neighbor] = true;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+            
+            return result;
+        }
+        
         @Override
         public String getName() {
             return "Breadth-First Search";
@@ -246,45 +675,796 @@ public class GraphAlgorithms {
     }
     
     /**
-     * Dijkstra's Algorithm implementation.
+     * Breadth-First Search implementation without per-vertex allocation.
      */
-    public static class DijkstraAlgorithm implements Algorithm {
+    public static class PrimitiveBreadthFirstSearch implements Algorithm {
+        
+        /** Visited bitset, one bit per vertex; reused across traversals and grown when needed. */
+        private long[] visited = new long[0];
         
         /**
-         * Finds the shortest paths from the source vertex to all other vertices using Dijkstra's algorithm.
+         * Performs a Breadth-First Search traversal of the graph starting from the specified vertex.
          * 
-         * @param graph The graph
-         * @param sourceVertex The source vertex
-         * @return An array of shortest distances from the source vertex to all other vertices
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices in the order they were visited; must have room for every vertex
+         * @return The number of vertices visited
          */
-        public int[] findShortestPaths(Graph graph, int sourceVertex) {
+        public int traverse(Graph graph, int startVertex, int[] order) {
+            return traverse(graph, startVertex, order, null, null);
+        }
+        
+        /**
+         * Performs a Breadth-First Search traversal of the graph starting from the specified vertex.
+         * Visits the vertices in the same order as BreadthFirstSearch. Every vertex is enqueued
+         * at most once, so the output array serves as the queue: the vertices between the head
+         * and the tail are the ones still to be expanded.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices in the order they were visited; must have room for every vertex
+         * @param levels Receives the number of edges from the start to each vertex, -1 if unreached; may be null
+         * @param parents Receives the vertex each vertex was discovered from, -1 for the start and unreached vertices; may be null
+         * @return The number of vertices visited
+         */
+        public int traverse(Graph graph, int startVertex, int[] order, int[] levels, int[] parents) {
             int vertices = graph.getVertices();
-            int[] distances = new int[vertices];
-            boolean[] visited = new boolean[vertices];
+            prepare(vertices, order, levels, parents);
+            List<List<Graph.Edge>> adjacencyList = graph.getAdjacencyList();
+            int head = 0;
+            int tail = 0;
             
-            // Initialize all distances as INFINITE and visited[] as false
-            Arrays.fill(distances, Integer.MAX_VALUE);
-            distances[sourceVertex] = 0;
+            markVisited(startVertex);
+            order[tail++] = startVertex;
+            if (levels != null) {
+                levels[startVertex] = 0;
+            }
             
-            // Find shortest path for all vertices
-            for (int count = 0; count < vertices - 1; count++) {
-                // Pick the minimum distance vertex from the set of vertices not yet processed
-                int u = minDistance(distances, visited);
+            while (head < tail) {
+                int vertex = order[head++];
                 
-                // If no reachable vertex is found, break
-                if (u == -1) {
-                    break;
+                for (Graph.Edge edge : adjacencyList.get(vertex)) {
+                    int neighbor = edge.getDestination();
+                    if (markVisited(neighbor)) {
+                        order[tail++] = neighbor;
+                        if (levels != null) {
+                            levels[neighbor] = levels[vertex] + 1;
+                        }
+                        if (parents != null) {
+                            parents[neighbor] = vertex;
+                        }
+                    }
                 }
-                
-                // Mark the picked vertex as processed
-                visited[u] = true;
-                
-                // Update distance value of the adjacent vertices of the picked vertex
-                for (Graph.Edge edge : graph.getAdjacencyList().get(u)) {
-                    int v = edge.getDestination();
-                    
-                    // Update distance[v] only if it's not in visited, there is an edge from u to v,
-                    // and total weight of path from source to v through u is smaller than current value of distance[v]
+            }
+            
+            return tail;
+        }
+        
+        /**
+         * Performs a Breadth-First Search traversal of a CSR graph starting from the specified vertex.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices in the order they were visited; must have room for every vertex
+         * @return The number of vertices visited
+         */
+        public int traverse(CsrGraph graph, int startVertex, int[] order) {
+            return traverse(graph, startVertex, order, null, null);
+        }
+        
+        /**
+         * Performs a Breadth-First Search traversal of a CSR graph starting from the specified vertex,
+         * using the output array as the queue.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices in the order they were visited; must have room for every vertex
+         * @param levels Receives the number of edges from the start to each vertex, -1 if unreached; may be null
+         * @param parents Receives the vertex each vertex was discovered from, -1 for the start and unreached vertices; may be null
+         * @return The number of vertices visited
+         */
+        public int traverse(CsrGraph graph, int startVertex, int[] order, int[] levels, int[] parents) {
+            int vertices = graph.getVertices();
+            prepare(vertices, order, levels, parents);
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int head = 0;
+            int tail = 0;
+            
+            markVisited(startVertex);
+            order[tail++] = startVertex;
+            if (levels != null) {
+                levels[startVertex] = 0;
+            }
+            
+            while (head < tail) {
+                int vertex = order[head++];
+                
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    int neighbor = targets[i];
+                    if (markVisited(neighbor)) {
+                        order[tail++] = neighbor;
+                        if (levels != null) {
+                            levels[neighbor] = levels[vertex] + 1;
+                        }
+                        if (parents != null) {
+                            parents[neighbor] = vertex;
+                        }
+                    }
+                }
+            }
+            
+            return tail;
+        }
+        
+        /**
+         * Validates the output arrays, resets the optional ones and clears the visited bitset.
+         * 
+         * @param vertices The number of vertices in the graph
+         * @param order The visit order array
+         * @param levels The level array, or null
+         * @param parents The parent array, or null
+         */
+        private void prepare(int vertices, int[] order, int[] levels, int[] parents) {
+            checkLength("Output", order, vertices);
+            if (levels != null) {
+                checkLength("Level array", levels, vertices);
+                Arrays.fill(levels, 0, vertices, -1);
+            }
+            if (parents != null) {
+                checkLength("Parent array", parents, vertices);
+                Arrays.fill(parents, 0, vertices, -1);
+            }
+            
+            int words = (vertices + 63) >>> 6;
+            if (visited.length < words) {
+                visited = new long[words];
+            } else {
+                Arrays.fill(visited, 0, words, 0L);
+            }
+        }
+        
+        /**
+         * Marks a vertex as visited.
+         * 
+         * @param vertex The vertex
+         * @return True if the vertex had not been visited before
+         */
+        private boolean markVisited(int vertex) {
+            long bit = 1L << vertex; // Shifts use the low six bits, the position within the word
+            long word = visited[vertex >>> 6];
+            visited[vertex >>> 6] = word | bit;
+            return (word & bit) == 0;
+        }
+        
+        /**
+         * Validates the length of an output array.
+         * 
+         * @param label The name of the array for the error message
+         * @param array The array
+         * @param vertices The number of vertices in the graph
+         */
+        private static void checkLength(String label, int[] array, int vertices) {
+            if (array.length < vertices) {
+                throw new IllegalArgumentException(label + " length " + array.length + " is less than the number of vertices " + vertices);
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "Breadth-First Search (primitive)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Breadth-First Search that uses the caller-supplied output array as its queue and a reused long bitset for visited vertices, so a traversal boxes no Integers and allocates no queue nodes; can also record the level and parent of each vertex.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V + E) where V is the number of vertices and E is the number of edges";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V) bits of scratch space, plus the caller's output arrays";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Direction-optimizing Breadth-First Search implementation, after Beamer, Asanović and Patterson.
+     * Levels with small frontiers are expanded top-down, from the frontier along outgoing edges.
+     * Once the frontier's outgoing edges outnumber the incoming edges of the unvisited vertices
+     * by the factor alpha, levels are expanded bottom-up: each unvisited vertex scans its
+     * incoming edges and stops at the first parent found in the frontier. The search returns to
+     * top-down when the frontier shrinks below 1/beta of the vertices.
+     */
+    public static class DirectionOptimizingBreadthFirstSearch implements InstrumentedAlgorithm {
+        
+        /** Default ratio of frontier edges to unexplored edges that switches to bottom-up. */
+        public static final int DEFAULT_ALPHA = 14;
+        
+        /** Default fraction of the vertices below which a shrinking frontier switches back to top-down. */
+        public static final int DEFAULT_BETA = 24;
+        
+        private final int alpha;
+        private final int beta;
+        private Object cachedSource;
+        private CsrGraph cachedForward;
+        private CsrGraph cachedReverse;
+        private double buildTimeMs;
+        private long[] visited = new long[0];
+        private long[] frontier = new long[0];
+        private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+        
+        /**
+         * Constructs a direction-optimizing BFS with the default thresholds.
+         */
+        public DirectionOptimizingBreadthFirstSearch() {
+            this(DEFAULT_ALPHA, DEFAULT_BETA);
+        }
+        
+        /**
+         * Constructs a direction-optimizing BFS.
+         * 
+         * @param alpha Switch to bottom-up once the frontier has more than 1/alpha of the unexplored edges
+         * @param beta Switch back to top-down once a shrinking frontier has fewer than 1/beta of the vertices
+         */
+        public DirectionOptimizingBreadthFirstSearch(int alpha, int beta) {
+            if (alpha < 1 || beta < 1) {
+                throw new IllegalArgumentException("Thresholds must be positive: alpha " + alpha + ", beta " + beta);
+            }
+            this.alpha = alpha;
+            this.beta = beta;
+        }
+        
+        /**
+         * Performs a direction-optimizing BFS of the graph starting from the specified vertex.
+         * The graph is converted to CSR together with its reverse on the first traversal, and the
+         * conversion is reused for as long as the same graph instance is traversed, so the graph
+         * must not be modified in between.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices level by level; must have room for every vertex
+         * @param levels Receives the number of edges from the start to each vertex, -1 if unreached; may be null
+         * @return The number of vertices visited
+         */
+        public int traverse(Graph graph, int startVertex, int[] order, int[] levels) {
+            if (graph != cachedSource) {
+                long startTime = System.nanoTime();
+                CsrGraph forward = CsrGraph.fromGraph(graph);
+                cache(graph, forward, forward.reverse(), startTime);
+            }
+            return traverse(cachedForward, cachedReverse, startVertex, order, levels);
+        }
+        
+        /**
+         * Performs a direction-optimizing BFS of a CSR graph starting from the specified vertex.
+         * The reverse graph is built on the first traversal and reused for as long as the same
+         * graph instance is traversed.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices level by level; must have room for every vertex
+         * @param levels Receives the number of edges from the start to each vertex, -1 if unreached; may be null
+         * @return The number of vertices visited
+         */
+        public int traverse(CsrGraph graph, int startVertex, int[] order, int[] levels) {
+            if (graph != cachedSource) {
+                long startTime = System.nanoTime();
+                cache(graph, graph, graph.reverse(), startTime);
+            }
+            return traverse(cachedForward, cachedReverse, startVertex, order, levels);
+        }
+        
+        /**
+         * Caches the CSR form and reverse of a source graph.
+         * 
+         * @param source The graph they were built from
+         * @param forward The CSR form of the graph
+         * @param reverse The reverse of the graph
+         * @param startTime The System.nanoTime() at which the build started
+         */
+        private void cache(Object source, CsrGraph forward, CsrGraph reverse, long startTime) {
+            cachedForward = forward;
+            cachedReverse = reverse;
+            cachedSource = source;
+            buildTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        }
+        
+        /**
+         * Performs a direction-optimizing BFS given a graph and its reverse. The visited
+         * vertices double as the queue: each level occupies a contiguous range of order.
+         * 
+         * @param graph The graph to traverse
+         * @param reverse The reverse of the graph
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices level by level
+         * @param levels Receives the level of each vertex, or null
+         * @return The number of vertices visited
+         */
+        private int traverse(CsrGraph graph, CsrGraph reverse, int startVertex, int[] order, int[] levels) {
+            int vertices = graph.getVertices();
+            if (order.length < vertices) {
+                throw new IllegalArgumentException("Output length " + order.length + " is less than the number of vertices " + vertices);
+            }
+            if (levels != null) {
+                if (levels.length < vertices) {
+                    throw new IllegalArgumentException("Level array length " + levels.length + " is less than the number of vertices " + vertices);
+                }
+                Arrays.fill(levels, 0, vertices, -1);
+            }
+            
+            int words = (vertices + 63) >>> 6;
+            if (visited.length < words) {
+                visited = new long[words];
+                frontier = new long[words];
+            } else {
+                Arrays.fill(visited, 0, words, 0L);
+            }
+            
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] reverseOffsets = reverse.getOffsets();
+            int[] sources = reverse.getTargets();
+            
+            visited[startVertex >>> 6] |= 1L << startVertex;
+            order[0] = startVertex;
+            if (levels != null) {
+                levels[startVertex] = 0;
+            }
+            
+            int levelStart = 0;
+            int tail = 1;
+            int level = 0;
+            int previousFrontierSize = 0;
+            long frontierEdges = graph.degree(startVertex);
+            long unexploredEdges = graph.getEdgeCount() - reverse.degree(startVertex);
+            boolean bottomUp = false;
+            long topDownEdges = 0;
+            long bottomUpEdges = 0;
+            int topDownLevels = 0;
+            int bottomUpLevels = 0;
+            
+            while (levelStart < tail) {
+                int levelEnd = tail;
+                int frontierSize = levelEnd - levelStart;
+                
+                if (!bottomUp) {
+                    bottomUp = frontierEdges > unexploredEdges / alpha;
+                } else {
+                    // Stay bottom-up while the frontier is still growing or large
+                    bottomUp = frontierSize >= vertices / beta || frontierSize > previousFrontierSize;
+                }
+                
+                long nextFrontierEdges = 0;
+                if (bottomUp) {
+                    bottomUpLevels++;
+                    Arrays.fill(frontier, 0, words, 0L);
+                    for (int i = levelStart; i < levelEnd; i++) {
+                        frontier[order[i] >>> 6] |= 1L << order[i];
+                    }
+                    
+                    for (int word = 0; word < words; word++) {
+                        long unvisited = ~visited[word];
+                        while (unvisited != 0) {
+                            int v = (word << 6) + Long.numberOfTrailingZeros(unvisited);
+                            unvisited &= unvisited - 1;
+                            if (v >= vertices) {
+                                break;
+                            }
+                            
+                            // Stop at the first parent in the frontier
+                            for (int i = reverseOffsets[v]; i < reverseOffsets[v + 1]; i++) {
+                                bottomUpEdges++;
+                                int u = sources[i];
+                                if ((frontier[u >>> 6] & (1L << u)) != 0) {
+                                    visited[word] |= 1L << v;
+                                    order[tail++] = v;
+                                    if (levels != null) {
+                                        levels[v] = level + 1;
+                                    }
+                                    nextFrontierEdges += graph.degree(v);
+                                    unexploredEdges -= reverse.degree(v);
+                                    break;
+                                }
+                            }
+                        }
+                    }
+                } else {
+                    topDownLevels++;
+                    for (int i = levelStart; i < levelEnd; i++) {
+                        int u = order[i];
+                        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                            topDownEdges++;
+                            int v = targets[e];
+                            long bit = 1L << v;
+                            if ((visited[v >>> 6] & bit) == 0) {
+                                visited[v >>> 6] |= bit;
+                                order[tail++] = v;
+                                if (levels != null) {
+                                    levels[v] = level + 1;
+                                }
+                                nextFrontierEdges += graph.degree(v);
+                                unexploredEdges -= reverse.degree(v);
+                            }
+                        }
+                    }
+                }
+                
+                previousFrontierSize = frontierSize;
+                frontierEdges = nextFrontierEdges;
+                levelStart = levelEnd;
+                level++;
+            }
+            
+            Map<String, String> details = new LinkedHashMap<>();
+            details.put("Reverse graph build (ms)", String.format("%.3f", buildTimeMs));
+            details.put("Top-down levels", String.valueOf(topDownLevels));
+            details.put("Bottom-up levels", String.valueOf(bottomUpLevels));
+            details.put("Edges examined (top-down)", String.valueOf(topDownEdges));
+            details.put("Edges examined (bottom-up)", String.valueOf(bottomUpEdges));
+            lastRunDetails = details;
+            
+            return tail;
+        }
+        
+        /**
+         * Gets the details of the most recent traversal: the time taken to build the reverse
+         * graph, and the levels expanded and edges examined in each direction.
+         * 
+         * @return The details of the most recent traversal
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            return Collections.unmodifiableMap(lastRunDetails);
+        }
+        
+        @Override
+        public String getName() {
+            return "Breadth-First Search (direction-optimizing)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Breadth-First Search that expands small frontiers top-down along outgoing edges and large frontiers bottom-up, where each unvisited vertex stops at its first incoming edge from the frontier; skips most edges of the middle levels of low-diameter graphs.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V + E) worst case, with far fewer edges examined on low-diameter graphs";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E) for the reverse graph";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Level-synchronous parallel Breadth-First Search implementation.
+     * Each level's frontier is expanded by fork/join workers that take blocks of frontier
+     * vertices from a shared cursor. A vertex is claimed by setting its bit in an atomic
+     * visited bitset, so exactly one worker adds it to its own next-frontier buffer; the
+     * buffers are then concatenated after the level without locking.
+     */
+    public static class ParallelBreadthFirstSearch implements InstrumentedAlgorithm, ParallelAlgorithm {
+        
+        /** Number of frontier vertices a worker takes at a time; smaller frontiers are expanded serially. */
+        private static final int GRAIN_SIZE = 512;
+        
+        private final int parallelism;
+        private final WorkerPool pool;
+        private Graph cachedSource;
+        private CsrGraph cachedGraph;
+        private final int[][] buffers;
+        private final int[] bufferSizes;
+        private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+        
+        /**
+         * Constructs a parallel BFS using all available processors.
+         */
+        public ParallelBreadthFirstSearch() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs a parallel BFS with the specified number of threads.
+         * 
+         * @param parallelism The number of worker threads
+         */
+        public ParallelBreadthFirstSearch(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            this.pool = new WorkerPool(parallelism);
+            this.buffers = new int[parallelism][0];
+            this.bufferSizes = new int[parallelism];
+        }
+        
+        /**
+         * Performs a parallel BFS of the graph starting from the specified vertex. The graph is
+         * converted to CSR on the first traversal and the conversion is reused for as long as the
+         * same graph instance is traversed, so the graph must not be modified in between.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices level by level; must have room for every vertex
+         * @param levels Receives the number of edges from the start to each vertex, -1 if unreached; may be null
+         * @return The number of vertices visited
+         */
+        public int traverse(Graph graph, int startVertex, int[] order, int[] levels) {
+            if (graph != cachedSource) {
+                cachedGraph = CsrGraph.fromGraph(graph);
+                cachedSource = graph;
+            }
+            return traverse(cachedGraph, startVertex, order, levels);
+        }
+        
+        /**
+         * Performs a parallel BFS of a CSR graph starting from the specified vertex. It reaches
+         * the same vertices at the same levels as BreadthFirstSearch, but the order of the
+         * vertices within a level depends on the scheduling of the workers.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @param order Receives the vertices level by level; must have room for every vertex
+         * @param levels Receives the number of edges from the start to each vertex, -1 if unreached; may be null
+         * @return The number of vertices visited
+         */
+        public int traverse(CsrGraph graph, int startVertex, int[] order, int[] levels) {
+            int vertices = graph.getVertices();
+            if (order.length < vertices) {
+                throw new IllegalArgumentException("Output length " + order.length + " is less than the number of vertices " + vertices);
+            }
+            if (levels != null) {
+                if (levels.length < vertices) {
+                    throw new IllegalArgumentException("Level array length " + levels.length + " is less than the number of vertices " + vertices);
+                }
+                Arrays.fill(levels, 0, vertices, -1);
+            }
+            
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            AtomicLongArray visited = new AtomicLongArray((vertices + 63) >>> 6);
+            
+            claim(visited, startVertex);
+            order[0] = startVertex;
+            if (levels != null) {
+                levels[startVertex] = 0;
+            }
+            
+            int levelStart = 0;
+            int tail = 1;
+            int level = 0;
+            int parallelLevels = 0;
+            int largestFrontier = 0;
+            
+            while (levelStart < tail) {
+                int levelEnd = tail;
+                int frontierSize = levelEnd - levelStart;
+                int nextLevel = level + 1;
+                int workers = Math.min(parallelism, frontierSize / GRAIN_SIZE);
+                largestFrontier = Math.max(largestFrontier, frontierSize);
+                
+                if (workers <= 1) {
+                    // Too small to be worth splitting: append straight to the order
+                    for (int i = levelStart; i < levelEnd; i++) {
+                        int u = order[i];
+                        for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                            int v = targets[e];
+                            if (claim(visited, v)) {
+                                order[tail++] = v;
+                                if (levels != null) {
+                                    levels[v] = nextLevel;
+                                }
+                            }
+                        }
+                    }
+                } else {
+                    parallelLevels++;
+                    AtomicInteger cursor = new AtomicInteger(levelStart);
+                    ForkJoinPool threads = pool.get();
+                    ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[workers];
+                    for (int w = 0; w < workers; w++) {
+                        int worker = w;
+                        tasks[w] = threads.submit(() -> expand(worker, offsets, targets, order, levelEnd, cursor, visited, levels, nextLevel));
+                    }
+                    for (ForkJoinTask<?> task : tasks) {
+                        task.join();
+                    }
+                    
+                    // Each worker owns its buffer, so the next frontier is a plain concatenation
+                    for (int w = 0; w < workers; w++) {
+                        System.arraycopy(buffers[w], 0, order, tail, bufferSizes[w]);
+                        tail += bufferSizes[w];
+                    }
+                }
+                
+                levelStart = levelEnd;
+                level++;
+            }
+            
+            Map<String, String> details = new LinkedHashMap<>();
+            details.put("Threads", String.valueOf(parallelism));
+            details.put("Levels", String.valueOf(level));
+            details.put("Parallel levels", String.valueOf(parallelLevels));
+            details.put("Largest frontier", String.valueOf(largestFrontier));
+            lastRunDetails = details;
+            
+            return tail;
+        }
+        
+        /**
+         * Expands blocks of the frontier into a worker's next-frontier buffer until the
+         * frontier is exhausted.
+         * 
+         * @param worker The index of the worker, which selects its buffer
+         * @param offsets The CSR offsets of the graph
+         * @param targets The CSR targets of the graph
+         * @param order The visit order, whose range up to levelEnd holds the frontier
+         * @param levelEnd The end of the frontier in the order
+         * @param cursor The start of the next block of the frontier to expand
+         * @param visited The visited bitset
+         * @param levels The level array, or null
+         * @param nextLevel The level of the vertices discovered
+         */
+        private void expand(int worker, int[] offsets, int[] targets, int[] order, int levelEnd,
+                AtomicInteger cursor, AtomicLongArray visited, int[] levels, int nextLevel) {
+            int[] buffer = buffers[worker];
+            int size = 0;
+            
+            int block;
+            while ((block = cursor.getAndAdd(GRAIN_SIZE)) < levelEnd) {
+                int blockEnd = Math.min(block + GRAIN_SIZE, levelEnd);
+                for (int i = block; i < blockEnd; i++) {
+                    int u = order[i];
+                    for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                        int v = targets[e];
+                        if (claim(visited, v)) {
+                            if (size == buffer.length) {
+                                buffer = Arrays.copyOf(buffer, Math.max(GRAIN_SIZE, size * 2));
+                            }
+                            buffer[size++] = v;
+                            if (levels != null) {
+                                levels[v] = nextLevel;
+                            }
+                        }
+                    }
+                }
+            }
+            
+            buffers[worker] = buffer;
+            bufferSizes[worker] = size;
+        }
+        
+        /**
+         * Atomically marks a vertex as visited.
+         * 
+         * @param visited The visited bitset
+         * @param vertex The vertex
+         * @return True if this call marked the vertex, false if it was already visited
+         */
+        private static boolean claim(AtomicLongArray visited, int vertex) {
+            int index = vertex >>> 6;
+            long bit = 1L << vertex;
+            long word = visited.get(index);
+            
+            // Plain reads filter out most visited vertices before paying for a CAS
+            while ((word & bit) == 0) {
+                long witness = visited.compareAndExchange(index, word, word | bit);
+                if (witness == word) {
+                    return true;
+                }
+                word = witness;
+            }
+            return false;
+        }
+        
+        @Override
+        public void close() {
+            pool.shutdown();
+        }
+        
+        /**
+         * Gets the details of the most recent traversal: the number of threads, the number of
+         * levels, how many of them were expanded in parallel, and the largest frontier.
+         * 
+         * @return The details of the most recent traversal
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            return Collections.unmodifiableMap(lastRunDetails);
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The parallelism
+         */
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+        
+        @Override
+        public String getName() {
+            return "Parallel BFS (" + parallelism + (parallelism == 1 ? " thread)" : " threads)");
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Level-synchronous Breadth-First Search that expands each frontier on fork/join workers, claims vertices in an atomic visited bitset and concatenates the workers' own next-frontier buffers without locking.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O((V + E) / p + D) on p threads, where D is the number of levels";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Dijkstra's Algorithm implementation.
+     */
+    public static class DijkstraAlgorithm implements Algorithm {
+        
+        /**
+         * Finds the shortest paths from the source vertex to all other vertices using Dijkstra's algorithm.
+         * 
+         * @param graph The graph
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex to all other vertices
+         */
+        public int[] findShortestPaths(Graph graph, int sourceVertex) {
+            int vertices = graph.getVertices();
+            int[] distances = new int[vertices];
+            boolean[] visited = new boolean[vertices];
+            
+            // Initialize all distances as INFINITE and visited[] as false
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            // Find shortest path for all vertices
+            for (int count = 0; count < vertices - 1; count++) {
+                // Pick the minimum distance vertex from the set of vertices not yet processed
+                int u = minDistance(distances, visited);
+                
+                // If no reachable vertex is found, break
+                if (u == -1) {
+                    break;
+                }
+                
+                // Mark the picked vertex as processed
+                visited[u] = true;
+                
+                // Update distance value of the adjacent vertices of the picked vertex
+                for (Graph.Edge edge : graph.getAdjacencyList().get(u)) {
+                    int v = edge.getDestination();
+                    
+                    // Update distance[v] only if it's not in visited, there is an edge from u to v,
+                    // and total weight of path from source to v through u is smaller than current value of distance[v]
                     if (!visited[v] && distances[u] != Integer.MAX_VALUE && 
                             distances[u] + edge.getWeight() < distances[v]) {
                         distances[v] = distances[u] + edge.getWeight();
@@ -296,44 +1476,768 @@ public class GraphAlgorithms {
         }
         
         /**
-         * Finds the vertex with the minimum distance value from the set of vertices not yet included in the shortest path tree.
+         * Finds the shortest paths from the source vertex to all other vertices of a CSR graph
+         * using Dijkstra's algorithm, with the same linear scan for the closest vertex.
+         * 
+         * @param graph The graph
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex to all other vertices
+         */
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int[] distances = new int[vertices];
+            boolean[] visited = new boolean[vertices];
+            
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            for (int count = 0; count < vertices - 1; count++) {
+                int u = minDistance(distances, visited);
+                
+                if (u == -1) {
+                    break;
+                }
+                
+                visited[u] = true;
+                
+                for (int edge = offsets[u]; edge < offsets[u + 1]; edge++) {
+                    int v = targets[edge];
+                    if (!visited[v] && distances[u] + weights[edge] < distances[v]) {
+                        distances[v] = distances[u] + weights[edge];
+                    }
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Finds the vertex with the minimum distance value from the set of vertices not yet included in the shortest path tree.
+         * 
+         * @param distances Array of distances
+         * @param visited Array of visited vertices
+         * @return The vertex with the minimum distance, or -1 if no unvisited vertex with finite distance exists
+         */
+        private int minDistance(int[] distances, boolean[] visited) {
+            int min = Integer.MAX_VALUE;
+            int minIndex = -1;
+            
+            for (int v = 0; v < distances.length; v++) {
+                if (!visited[v] && distances[v] < min) {
+                    min = distances[v];
+                    minIndex = v;
+                }
+            }
+            
+            return minIndex;
+        }
+        
+        @Override
+        public String getName() {
+            return "Dijkstra's Algorithm";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "An algorithm for finding the shortest paths between nodes in a graph, which may represent, for example, road networks.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V²) with adjacency matrix, O(E + V log V) with min-priority queue";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Dijkstra's Algorithm implementation using an indexed d-ary min-heap with decrease-key.
+     */
+    public static class HeapDijkstraAlgorithm implements Algorithm {
+        
+        /** Default number of children per heap node; four keeps siblings in one cache line. */
+        public static final int DEFAULT_ARITY = 4;
+        
+        private final int arity;
+        
+        /**
+         * Constructs a heap-based Dijkstra's algorithm with a 4-ary heap.
+         */
+        public HeapDijkstraAlgorithm() {
+            this(DEFAULT_ARITY);
+        }
+        
+        /**
+         * Constructs a heap-based Dijkstra's algorithm.
+         * 
+         * @param arity The number of children per heap node
+         */
+        public HeapDijkstraAlgorithm(int arity) {
+            if (arity < 2) {
+                throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+            }
+            this.arity = arity;
+        }
+        
+        /**
+         * Finds the shortest paths from the source vertex to all other vertices using Dijkstra's
+         * algorithm. The heap holds each reached vertex once, keyed by its tentative distance,
+         * and a shorter path moves the vertex up in place.
+         * 
+         * @param graph The graph
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex to all other vertices
+         */
+        public int[] findShortestPaths(Graph graph, int sourceVertex) {
+            int[] distances = new int[graph.getVertices()];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            IndexedMinHeap heap = new IndexedMinHeap(distances, arity);
+            heap.insert(sourceVertex);
+            
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                
+                for (Graph.Edge edge : graph.getAdjacencyList().get(u)) {
+                    relax(heap, distances, u, edge.getDestination(), edge.getWeight());
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Finds the shortest paths from the source vertex to all other vertices of a CSR graph.
+         * 
+         * @param graph The graph
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex to all other vertices
+         */
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int[] distances = new int[graph.getVertices()];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            IndexedMinHeap heap = new IndexedMinHeap(distances, arity);
+            heap.insert(sourceVertex);
+            
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                
+                for (int edge = offsets[u]; edge < offsets[u + 1]; edge++) {
+                    relax(heap, distances, u, targets[edge], weights[edge]);
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Relaxes an edge, inserting its destination into the heap or moving it up.
+         * Settled vertices, which have left the heap, are never updated, as in the linear scan version.
+         * 
+         * @param heap The heap of reached, unsettled vertices
+         * @param distances The tentative distances
+         * @param u The source of the edge, just settled
+         * @param v The destination of the edge
+         * @param weight The weight of the edge
+         */
+        private static void relax(IndexedMinHeap heap, int[] distances, int u, int v, int weight) {
+            int candidate = distances[u] + weight;
+            if (candidate < distances[v]) {
+                if (heap.contains(v)) {
+                    distances[v] = candidate;
+                    heap.decreaseKey(v);
+                } else if (distances[v] == Integer.MAX_VALUE) {
+                    distances[v] = candidate;
+                    heap.insert(v);
+                }
+            }
+        }
+        
+        /**
+         * Gets the number of children per heap node.
+         * 
+         * @return The arity of the heap
+         */
+        public int getArity() {
+            return arity;
+        }
+        
+        @Override
+        public String getName() {
+            return "Dijkstra (indexed " + arity + "-ary heap)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Dijkstra's algorithm with an indexed d-ary min-heap of primitive ints that tracks each vertex's heap position, so a shorter path updates the vertex in place with decrease-key instead of scanning every vertex for the closest one.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O((V + E) log V)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Dijkstra's Algorithm implementation using a binary heap with lazy deletion.
+     */
+    public static class LazyHeapDijkstraAlgorithm implements Algorithm {
+        
+        /**
+         * Finds the shortest paths from the source vertex to all other vertices using Dijkstra's
+         * algorithm. Instead of updating a vertex in the heap, every shorter path pushes a new
+         * entry; entries of vertices that were already settled are skipped when polled.
+         * 
+         * @param graph The graph
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex to all other vertices
+         */
+        public int[] findShortestPaths(Graph graph, int sourceVertex) {
+            int[] distances = new int[graph.getVertices()];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            boolean[] settled = new boolean[graph.getVertices()];
+            LongMinHeap heap = new LongMinHeap(graph.getVertices());
+            heap.push(entry(0, sourceVertex));
+            
+            while (!heap.isEmpty()) {
+                int u = (int) heap.poll();
+                if (settled[u]) {
+                    continue; // Stale entry
+                }
+                settled[u] = true;
+                
+                for (Graph.Edge edge : graph.getAdjacencyList().get(u)) {
+                    int v = edge.getDestination();
+                    int candidate = distances[u] + edge.getWeight();
+                    if (!settled[v] && candidate < distances[v]) {
+                        distances[v] = candidate;
+                        heap.push(entry(candidate, v));
+                    }
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Finds the shortest paths from the source vertex to all other vertices of a CSR graph.
+         * 
+         * @param graph The graph
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex to all other vertices
+         */
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int[] distances = new int[graph.getVertices()];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            boolean[] settled = new boolean[graph.getVertices()];
+            LongMinHeap heap = new LongMinHeap(graph.getVertices());
+            heap.push(entry(0, sourceVertex));
+            
+            while (!heap.isEmpty()) {
+                int u = (int) heap.poll();
+                if (settled[u]) {
+                    continue; // Stale entry
+                }
+                settled[u] = true;
+                
+                for (int edge = offsets[u]; edge < offsets[u + 1]; edge++) {
+                    int v = targets[edge];
+                    int candidate = distances[u] + weights[edge];
+                    if (!settled[v] && candidate < distances[v]) {
+                        distances[v] = candidate;
+                        heap.push(entry(candidate, v));
+                    }
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Packs a distance and a vertex into one long that orders by distance first.
+         * Distances are never negative, so the packed values compare as signed longs.
          * 
-         * @param distances Array of distances
-         * @param visited Array of visited vertices
-         * @return The vertex with the minimum distance, or -1 if no unvisited vertex with finite distance exists
+         * @param distance The distance
+         * @param vertex The vertex
+         * @return The heap entry
          */
-        private int minDistance(int[] distances, boolean[] visited) {
-            int min = Integer.MAX_VALUE;
-            int minIndex = -1;
+        private static long entry(int distance, int vertex) {
+            return (long) distance << 32 | vertex;
+        }
+        
+        @Override
+        public String getName() {
+            return "Dijkstra (lazy binary heap)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Dijkstra's algorithm with a binary heap of packed (distance, vertex) longs and lazy deletion: shorter paths push new entries and outdated ones are skipped when they reach the top, trading heap size for the bookkeeping of decrease-key.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O((V + E) log E)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E) for the heap entries";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Delta-stepping single-source shortest paths implementation, after Meyer and Sanders.
+     * Tentative distances are grouped into buckets of width delta and the buckets are settled in
+     * increasing order. Within a bucket, light edges (weight at most delta) are relaxed in
+     * parallel rounds, because they can add vertices to the same bucket; once the bucket stays
+     * empty, the heavy edges of every vertex it settled are relaxed in one parallel round.
+     * Distances are lowered with compare-and-exchange, and each worker records the vertices it
+     * improved in its own buffer, which are then filed into their buckets.
+     */
+    public static class DeltaSteppingAlgorithm implements InstrumentedAlgorithm, ParallelAlgorithm {
+        
+        /** Number of vertices a worker takes at a time; smaller rounds are relaxed serially. */
+        private static final int GRAIN_SIZE = 256;
+        
+        private final int delta;
+        private final int parallelism;
+        private final WorkerPool pool;
+        private Object cachedSource;
+        private int[] offsets;
+        private int[] lightEnds;
+        private int[] targets;
+        private int[] weights;
+        private int maxWeight;
+        private double buildTimeMs;
+        private final int[][] buffers;
+        private final int[] bufferSizes;
+        private final long[] edgesRelaxed;
+        private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+        
+        /**
+         * Constructs a delta-stepping algorithm using all available processors.
+         * 
+         * @param delta The bucket width; edges of at most this weight are light
+         */
+        public DeltaSteppingAlgorithm(int delta) {
+            this(delta, Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs a delta-stepping algorithm.
+         * 
+         * @param delta The bucket width; edges of at most this weight are light
+         * @param parallelism The number of worker threads
+         */
+        public DeltaSteppingAlgorithm(int delta, int parallelism) {
+            if (delta < 1) {
+                throw new IllegalArgumentException("Delta must be at least 1: " + delta);
+            }
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+            }
+            this.delta = delta;
+            this.parallelism = parallelism;
+            this.pool = new WorkerPool(parallelism);
+            this.buffers = new int[parallelism][0];
+            this.bufferSizes = new int[parallelism];
+            this.edgesRelaxed = new long[parallelism];
+        }
+        
+        /**
+         * Finds the shortest paths from the source vertex to all other vertices. The graph is
+         * converted to CSR with each vertex's light edges ahead of its heavy edges on the first
+         * run, and the conversion is reused for as long as the same graph instance is used, so
+         * the graph must not be modified in between.
+         * 
+         * @param graph The graph, whose edge weights must not be negative
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex, Integer.MAX_VALUE for unreachable vertices
+         */
+        public int[] findShortestPaths(Graph graph, int sourceVertex) {
+            if (graph != cachedSource) {
+                long startTime = System.nanoTime();
+                partition(graph, CsrGraph.fromGraph(graph), startTime);
+            }
+            return run(sourceVertex);
+        }
+        
+        /**
+         * Finds the shortest paths from the source vertex to all other vertices of a CSR graph.
+         * The light-first copy of the edges is built on the first run and reused for as long as
+         * the same graph instance is used.
+         * 
+         * @param graph The graph, whose edge weights must not be negative
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex, Integer.MAX_VALUE for unreachable vertices
+         */
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            if (graph != cachedSource) {
+                long startTime = System.nanoTime();
+                partition(graph, graph, startTime);
+            }
+            return run(sourceVertex);
+        }
+        
+        /**
+         * Copies the edges of a graph so that each vertex's light edges come before its heavy
+         * edges, and caches the copy together with the largest weight.
+         * 
+         * @param source The graph the CSR form was built from
+         * @param graph The CSR form of the graph
+         * @param startTime The System.nanoTime() at which the build started
+         */
+        private void partition(Object source, CsrGraph graph, long startTime) {
+            int vertices = graph.getVertices();
+            int[] graphOffsets = graph.getOffsets();
+            int[] graphTargets = graph.getTargets();
+            int[] graphWeights = graph.getWeights();
+            int[] partitionedTargets = new int[graphTargets.length];
+            int[] partitionedWeights = new int[graphWeights.length];
+            int[] partitionedLightEnds = new int[vertices];
+            int largest = 0;
             
-            for (int v = 0; v < distances.length; v++) {
-                if (!visited[v] && distances[v] < min) {
-                    min = distances[v];
-                    minIndex = v;
+            for (int u = 0; u < vertices; u++) {
+                int light = graphOffsets[u];
+                int heavy = graphOffsets[u + 1];
+                for (int e = graphOffsets[u]; e < graphOffsets[u + 1]; e++) {
+                    int weight = graphWeights[e];
+                    if (weight < 0) {
+                        throw new IllegalArgumentException("Delta-stepping requires non-negative weights: " + weight);
+                    }
+                    largest = Math.max(largest, weight);
+                    
+                    if (weight <= delta) {
+                        partitionedTargets[light] = graphTargets[e];
+                        partitionedWeights[light++] = weight;
+                    } else {
+                        partitionedTargets[--heavy] = graphTargets[e];
+                        partitionedWeights[heavy] = weight;
+                    }
                 }
+                partitionedLightEnds[u] = light;
             }
             
-            return minIndex;
+            offsets = graphOffsets;
+            lightEnds = partitionedLightEnds;
+            targets = partitionedTargets;
+            weights = partitionedWeights;
+            maxWeight = largest;
+            cachedSource = source;
+            buildTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        }
+        
+        /**
+         * Runs delta-stepping on the cached graph.
+         * 
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex
+         */
+        private int[] run(int sourceVertex) {
+            int vertices = offsets.length - 1;
+            int[] initial = new int[vertices];
+            Arrays.fill(initial, Integer.MAX_VALUE);
+            initial[sourceVertex] = 0;
+            AtomicIntegerArray distances = new AtomicIntegerArray(initial);
+            
+            // Tentative distances never run more than maxWeight + delta past the bucket being
+            // settled, so the buckets can be kept in a cycle of this many slots
+            int bucketCount = maxWeight / delta + 2;
+            int[][] buckets = new int[bucketCount][0];
+            int[] bucketSizes = new int[bucketCount];
+            long pending = insert(buckets, bucketSizes, 0, sourceVertex);
+            
+            int[] frontier = new int[GRAIN_SIZE];
+            int[] settled = new int[GRAIN_SIZE];
+            int[] frontierMarks = new int[vertices];
+            int[] settledMarks = new int[vertices];
+            int round = 0;
+            int bucketsSettled = 0;
+            long lightEdges = 0;
+            long heavyEdges = 0;
+            
+            for (int current = 0; pending > 0; current++) {
+                int slot = current % bucketCount;
+                if (bucketSizes[slot] == 0) {
+                    continue;
+                }
+                bucketsSettled++;
+                int settledSize = 0;
+                
+                while (bucketSizes[slot] > 0) {
+                    // Take the bucket, dropping entries whose distance has since been lowered
+                    // into an earlier bucket, and duplicates within the round
+                    int[] entries = buckets[slot];
+                    int entryCount = bucketSizes[slot];
+                    bucketSizes[slot] = 0;
+                    pending -= entryCount;
+                    round++;
+                    
+                    int frontierSize = 0;
+                    for (int i = 0; i < entryCount; i++) {
+                        int v = entries[i];
+                        if (distances.get(v) / delta != current || frontierMarks[v] == round) {
+                            continue;
+                        }
+                        frontierMarks[v] = round;
+                        if (frontierSize == frontier.length) {
+                            frontier = Arrays.copyOf(frontier, frontierSize * 2);
+                        }
+                        frontier[frontierSize++] = v;
+                        
+                        if (settledMarks[v] != bucketsSettled) {
+                            settledMarks[v] = bucketsSettled;
+                            if (settledSize == settled.length) {
+                                settled = Arrays.copyOf(settled, settledSize * 2);
+                            }
+                            settled[settledSize++] = v;
+                        }
+                    }
+                    
+                    lightEdges += relaxRound(frontier, frontierSize, true, distances);
+                    pending += fileImproved(distances, buckets, bucketSizes);
+                }
+                
+                heavyEdges += relaxRound(settled, settledSize, false, distances);
+                pending += fileImproved(distances, buckets, bucketSizes);
+            }
+            
+            int[] result = new int[vertices];
+            for (int v = 0; v < vertices; v++) {
+                result[v] = distances.get(v);
+            }
+            
+            Map<String, String> details = new LinkedHashMap<>();
+            details.put("Delta", String.valueOf(delta));
+            details.put("Threads", String.valueOf(parallelism));
+            details.put("Edge partition build (ms)", String.format("%.3f", buildTimeMs));
+            details.put("Buckets settled", String.valueOf(bucketsSettled));
+            details.put("Light rounds", String.valueOf(round));
+            details.put("Light edges relaxed", String.valueOf(lightEdges));
+            details.put("Heavy edges relaxed", String.valueOf(heavyEdges));
+            lastRunDetails = details;
+            
+            return result;
+        }
+        
+        /**
+         * Relaxes the light or heavy edges of a set of vertices, in parallel when there are
+         * enough of them. The vertices whose distance improved are left in the worker buffers.
+         * 
+         * @param sources The vertices whose edges to relax
+         * @param count The number of vertices
+         * @param light Whether to relax the light edges rather than the heavy ones
+         * @param distances The tentative distances
+         * @return The number of edges relaxed
+         */
+        private long relaxRound(int[] sources, int count, boolean light, AtomicIntegerArray distances) {
+            int workers = Math.min(parallelism, count / GRAIN_SIZE);
+            Arrays.fill(bufferSizes, 0);
+            Arrays.fill(edgesRelaxed, 0);
+            AtomicInteger cursor = new AtomicInteger();
+            
+            if (workers <= 1) {
+                relax(0, sources, count, cursor, light, distances);
+            } else {
+                ForkJoinPool threads = pool.get();
+                ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[workers];
+                for (int w = 0; w < workers; w++) {
+                    int worker = w;
+                    tasks[w] = threads.submit(() -> relax(worker, sources, count, cursor, light, distances));
+                }
+                for (ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            }
+            
+            long relaxed = 0;
+            for (long edges : edgesRelaxed) {
+                relaxed += edges;
+            }
+            return relaxed;
+        }
+        
+        /**
+         * Relaxes edges of blocks of the source vertices until they are exhausted, recording the
+         * vertices whose distance this worker lowered in its buffer.
+         * 
+         * @param worker The index of the worker, which selects its buffer
+         * @param sources The vertices whose edges to relax
+         * @param count The number of vertices
+         * @param cursor The start of the next block of vertices
+         * @param light Whether to relax the light edges rather than the heavy ones
+         * @param distances The tentative distances
+         */
+        private void relax(int worker, int[] sources, int count, AtomicInteger cursor, boolean light, AtomicIntegerArray distances) {
+            int[] buffer = buffers[worker];
+            int size = 0;
+            long relaxed = 0;
+            
+            int block;
+            while ((block = cursor.getAndAdd(GRAIN_SIZE)) < count) {
+                int blockEnd = Math.min(block + GRAIN_SIZE, count);
+                for (int i = block; i < blockEnd; i++) {
+                    int u = sources[i];
+                    int distance = distances.get(u);
+                    int from = light ? offsets[u] : lightEnds[u];
+                    int to = light ? lightEnds[u] : offsets[u + 1];
+                    relaxed += to - from;
+                    
+                    for (int e = from; e < to; e++) {
+                        int v = targets[e];
+                        int candidate = distance + weights[e];
+                        int current = distances.get(v);
+                        
+                        // Lower the distance unless another worker has already lowered it further
+                        while (candidate < current) {
+                            int witness = distances.compareAndExchange(v, current, candidate);
+                            if (witness == current) {
+                                if (size == buffer.length) {
+                                    buffer = Arrays.copyOf(buffer, Math.max(GRAIN_SIZE, size * 2));
+                                }
+                                buffer[size++] = v;
+                                break;
+                            }
+                            current = witness;
+                        }
+                    }
+                }
+            }
+            
+            buffers[worker] = buffer;
+            bufferSizes[worker] = size;
+            edgesRelaxed[worker] = relaxed;
+        }
+        
+        /**
+         * Files the vertices improved by the last round into the buckets of their new distances.
+         * 
+         * @param distances The tentative distances
+         * @param buckets The cycle of buckets
+         * @param bucketSizes The number of entries in each bucket
+         * @return The number of entries filed
+         */
+        private long fileImproved(AtomicIntegerArray distances, int[][] buckets, int[] bucketSizes) {
+            long filed = 0;
+            for (int w = 0; w < parallelism; w++) {
+                for (int i = 0; i < bufferSizes[w]; i++) {
+                    int v = buffers[w][i];
+                    filed += insert(buckets, bucketSizes, (distances.get(v) / delta) % buckets.length, v);
+                }
+            }
+            return filed;
+        }
+        
+        /**
+         * Appends a vertex to a bucket, growing it when it is full.
+         * 
+         * @param buckets The cycle of buckets
+         * @param bucketSizes The number of entries in each bucket
+         * @param slot The slot of the bucket
+         * @param vertex The vertex
+         * @return The number of entries added, always 1
+         */
+        private static long insert(int[][] buckets, int[] bucketSizes, int slot, int vertex) {
+            if (bucketSizes[slot] == buckets[slot].length) {
+                buckets[slot] = Arrays.copyOf(buckets[slot], Math.max(GRAIN_SIZE, bucketSizes[slot] * 2));
+            }
+            buckets[slot][bucketSizes[slot]++] = vertex;
+            return 1;
+        }
+        
+        @Override
+        public void close() {
+            pool.shutdown();
+        }
+        
+        /**
+         * Gets the details of the most recent run: delta, the number of threads, the time taken
+         * to partition the edges, and the buckets, rounds and edges relaxed.
+         * 
+         * @return The details of the most recent run
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            return Collections.unmodifiableMap(lastRunDetails);
+        }
+        
+        /**
+         * Gets the bucket width.
+         * 
+         * @return Delta
+         */
+        public int getDelta() {
+            return delta;
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The parallelism
+         */
+        @Override
+        public int getParallelism() {
+            return parallelism;
         }
         
         @Override
         public String getName() {
-            return "Dijkstra's Algorithm";
+            return "Delta-Stepping (delta " + delta + ", " + parallelism + (parallelism == 1 ? " thread)" : " threads)");
         }
         
         @Override
         public String getDescription() {
-            return "An algorithm for finding the shortest paths between nodes in a graph, which may represent, for example, road networks.";
+            return "Single-source shortest paths that settles buckets of tentative distances of width delta in order, relaxing light edges in parallel rounds until the bucket is empty and then the heavy edges of everything it settled; returns the same distances as Dijkstra's Algorithm.";
         }
         
         @Override
         public String getTimeComplexity() {
-            return "O(V²) with adjacency matrix, O(E + V log V) with min-priority queue";
+            return "O(V + E) expected work for random weights and a suitable delta, spread over p threads; a larger delta trades more re-relaxations for fewer rounds";
         }
         
         @Override
         public String getSpaceComplexity() {
-            return "O(V)";
+            return "O(V + E)";
         }
         
         @Override
@@ -341,4 +2245,216 @@ public class GraphAlgorithms {
             return AlgorithmCategory.GRAPH;
         }
     }
+    
+    /**
+     * An indexed d-ary min-heap of vertices keyed by an external distance array. Each vertex's
+     * position in the heap is tracked, so its key can be decreased in place.
+     */
+    public static final class IndexedMinHeap {
+        private final int[] keys;
+        private final int arity;
+        private final int[] heap;
+        private final int[] positions;
+        private int size;
+        
+        /**
+         * Constructs an empty heap over the vertices 0 to keys.length - 1.
+         * 
+         * @param keys The key of each vertex, read whenever vertices are compared
+         * @param arity The number of children per node
+         */
+        public IndexedMinHeap(int[] keys, int arity) {
+            this.keys = keys;
+            this.arity = arity;
+            this.heap = new int[keys.length];
+            this.positions = new int[keys.length];
+            Arrays.fill(positions, -1);
+        }
+        
+        /**
+         * Inserts a vertex that is not in the heap.
+         * 
+         * @param vertex The vertex
+         */
+        public void insert(int vertex) {
+            heap[size] = vertex;
+            positions[vertex] = size;
+            siftUp(size++);
+        }
+        
+        /**
+         * Restores the heap order after the key of a vertex in the heap was decreased.
+         * 
+         * @param vertex The vertex
+         */
+        public void decreaseKey(int vertex) {
+            siftUp(positions[vertex]);
+        }
+        
+        /**
+         * Removes the vertex with the smallest key.
+         * 
+         * @return The vertex
+         */
+        public int poll() {
+            int top = heap[0];
+            positions[top] = -1;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                positions[heap[0]] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+        
+        /**
+         * Checks whether a vertex is in the heap.
+         * 
+         * @param vertex The vertex
+         * @return true if the vertex is in the heap
+         */
+        public boolean contains(int vertex) {
+            return positions[vertex] >= 0;
+        }
+        
+        /**
+         * Checks whether the heap is empty.
+         * 
+         * @return true if the heap has no vertices
+         */
+        public boolean isEmpty() {
+            return size == 0;
+        }
+        
+        /**
+         * Moves the vertex at a position up until its parent's key is not larger.
+         * 
+         * @param position The position
+         */
+        private void siftUp(int position) {
+            int vertex = heap[position];
+            int key = keys[vertex];
+            while (position > 0) {
+                int parent = (position - 1) / arity;
+                if (keys[heap[parent]] <= key) {
+                    break;
+                }
+                heap[position] = heap[parent];
+                positions[heap[position]] = position;
+                position = parent;
+            }
+            heap[position] = vertex;
+            positions[vertex] = position;
+        }
+        
+        /**
+         * Moves the vertex at a position down until no child has a smaller key.
+         * 
+         * @param position The position
+         */
+        private void siftDown(int position) {
+            int vertex = heap[position];
+            int key = keys[vertex];
+            while (true) {
+                int firstChild = position * arity + 1;
+                if (firstChild >= size) {
+                    break;
+                }
+                
+                int smallest = firstChild;
+                int lastChild = Math.min(firstChild + arity, size);
+                for (int child = firstChild + 1; child < lastChild; child++) {
+                    if (keys[heap[child]] < keys[heap[smallest]]) {
+                        smallest = child;
+                    }
+                }
+                
+                if (keys[heap[smallest]] >= key) {
+                    break;
+                }
+                heap[position] = heap[smallest];
+                positions[heap[position]] = position;
+                position = smallest;
+            }
+            heap[position] = vertex;
+            positions[vertex] = position;
+        }
+    }
+    
+    /**
+     * A growable binary min-heap of primitive longs.
+     */
+    private static final class LongMinHeap {
+        private long[] heap;
+        private int size;
+        
+        /**
+         * Constructs an empty heap.
+         * 
+         * @param initialCapacity The initial capacity
+         */
+        LongMinHeap(int initialCapacity) {
+            heap = new long[Math.max(initialCapacity, 16)];
+        }
+        
+        /**
+         * Adds a value.
+         * 
+         * @param value The value
+         */
+        void push(long value) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            
+            int position = size++;
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (heap[parent] <= value) {
+                    break;
+                }
+                heap[position] = heap[parent];
+                position = parent;
+            }
+            heap[position] = value;
+        }
+        
+        /**
+         * Removes the smallest value.
+         * 
+         * @return The value
+         */
+        long poll() {
+            long top = heap[0];
+            long last = heap[--size];
+            
+            int position = 0;
+            while (true) {
+                int child = 2 * position + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (heap[child] >= last) {
+                    break;
+                }
+                heap[position] = heap[child];
+                position = child;
+            }
+            heap[position] = last;
+            return top;
+        }
+        
+        /**
+         * Checks whether the heap is empty.
+         * 
+         * @return true if the heap has no values
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
 }
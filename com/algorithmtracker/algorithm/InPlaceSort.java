@@ -0,0 +1,32 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Interface for sorting algorithms that can sort a range of an int array in place.
+ * Implementations allocate nothing beyond their own algorithmic scratch space, so
+ * callers that already own a copy of the data can time the algorithm alone.
+ */
+public interface InPlaceSort extends Algorithm {
+    
+    /**
+     * Sorts the range arr[from, to) in place.
+     * 
+     * @param arr The array containing the range to be sorted
+     * @param from The starting index (inclusive)
+     * @param to The ending index (exclusive)
+     */
+    void sortInPlace(int[] arr, int from, int to);
+    
+    /**
+     * Sorts a copy of an array, leaving the original untouched.
+     * 
+     * @param arr The array to be sorted
+     * @return The sorted array
+     */
+    default int[] sort(int[] arr) {
+        int[] result = Arrays.copyOf(arr, arr.length);
+        sortInPlace(result, 0, result.length);
+        return result;
+    }
+}
@@ -0,0 +1,17 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.Map;
+
+/**
+ * Interface for algorithms that report details about their most recent run,
+ * such as which code path was taken, so that timings can be interpreted honestly.
+ */
+public interface InstrumentedAlgorithm extends Algorithm {
+    
+    /**
+     * Gets details about the most recent run of the algorithm.
+     * 
+     * @return An ordered map of detail names to display values, empty if the algorithm has not run yet
+     */
+    Map<String, String> getLastRunDetails();
+}
@@ -0,0 +1,312 @@
+package com.algorithmtracker.algorithm;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory-Mapped File Search implementation for sorted binary files of ints larger than the heap.
+ * Maps the file with FileChannel.map and runs Binary Search or Interpolation Search directly
+ * over the mapping, so no part of the file is copied into the heap. A single mapping is
+ * limited to 2 GB, so larger files are mapped as several segments.
+ * Files hold 32-bit big-endian ints, the format written by DataOutputStream.
+ */
+public class MappedFileSearch implements InstrumentedAlgorithm {
+    
+    /** Size of each mapped segment (1 GB), a multiple of the int size so no int spans two segments. */
+    public static final long SEGMENT_BYTES = 1L << 30;
+    
+    /** Location of the process statistics that count page faults on Linux. */
+    private static final Path PROCESS_STAT = Path.of("/proc/self/stat");
+    
+    private final boolean interpolation;
+    private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+    
+    /**
+     * Constructs a memory-mapped file search that uses Binary Search.
+     */
+    public MappedFileSearch() {
+        this(false);
+    }
+    
+    /**
+     * Constructs a memory-mapped file search.
+     * 
+     * @param interpolation Whether to use Interpolation Search instead of Binary Search
+     */
+    public MappedFileSearch(boolean interpolation) {
+        this.interpolation = interpolation;
+    }
+    
+    /**
+     * Maps a sorted file of ints for searching.
+     * 
+     * @param file The sorted file
+     * @return The mapped file
+     * @throws IOException If an I/O error occurs
+     */
+    public MappedIntFile open(Path file) throws IOException {
+        return new MappedIntFile(file, SEGMENT_BYTES);
+    }
+    
+    /**
+     * Searches a sorted file for each of the queries on a fresh mapping, twice. The first
+     * pass is cold: every page it touches faults into the mapping, and is read from disk if
+     * it is not in the OS page cache. The second pass repeats the same queries on the now
+     * resident pages, so the difference between the two shows the cost of the page faults.
+     * 
+     * @param file The sorted file to search in
+     * @param queries The values to search for
+     * @return For each query, an index of it in the file, or -1 if it is absent
+     * @throws IOException If an I/O error occurs
+     */
+    public long[] searchAll(Path file, int[] queries) throws IOException {
+        long mapStart = System.nanoTime();
+        MappedIntFile mapped = open(file);
+        double mapTimeMs = (System.nanoTime() - mapStart) / 1_000_000.0;
+        
+        long[] results = new long[queries.length];
+        long[] faultsBefore = readPageFaults();
+        long coldStart = System.nanoTime();
+        for (int i = 0; i < queries.length; i++) {
+            results[i] = search(mapped, queries[i]);
+        }
+        long coldTime = System.nanoTime() - coldStart;
+        long[] faultsAfter = readPageFaults();
+        
+        long warmStart = System.nanoTime();
+        for (int i = 0; i < queries.length; i++) {
+            results[i] = search(mapped, queries[i]);
+        }
+        long warmTime = System.nanoTime() - warmStart;
+        
+        int queryCount = Math.max(queries.length, 1);
+        Map<String, String> details = new LinkedHashMap<>();
+        details.put("File size (MB)", String.format("%.1f", mapped.size() * (double) Integer.BYTES / (1024.0 * 1024.0)));
+        details.put("Mapped segments", String.valueOf(mapped.segmentCount()));
+        details.put("Map time (ms)", String.format("%.3f", mapTimeMs));
+        details.put("Cold query latency (ns)", String.format("%.1f", (double) coldTime / queryCount));
+        details.put("Warm query latency (ns)", String.format("%.1f", (double) warmTime / queryCount));
+        if (faultsBefore != null && faultsAfter != null) {
+            details.put("Minor page faults (cold pass)", String.valueOf(faultsAfter[0] - faultsBefore[0]));
+            details.put("Major page faults (cold pass)", String.valueOf(faultsAfter[1] - faultsBefore[1]));
+        }
+        lastRunDetails = details;
+        
+        return results;
+    }
+    
+    /**
+     * Searches a mapped file with the configured search.
+     * 
+     * @param mapped The mapped file
+     * @param target The value to search for
+     * @return An index of the target if found, -1 otherwise
+     */
+    private long search(MappedIntFile mapped, int target) {
+        return interpolation ? mapped.interpolationSearch(target) : mapped.binarySearch(target);
+    }
+    
+    /**
+     * Reads the minor and major page fault counts of this process from /proc/self/stat,
+     * where they are the 10th and 12th fields.
+     * 
+     * @return The minor and major page fault counts, or null where they are not available
+     */
+    private static long[] readPageFaults() {
+        try {
+            List<String> lines = Files.readAllLines(PROCESS_STAT);
+            if (lines.isEmpty()) {
+                return null;
+            }
+            
+            // The command name in field 2 is parenthesised and may contain spaces
+            String stat = lines.get(0);
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return new long[] {Long.parseLong(fields[7]), Long.parseLong(fields[9])};
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Gets the details of the most recent searchAll: the file size, the number of segments,
+     * the cold and warm latency per query, and the page faults taken by the cold pass
+     * where the operating system reports them.
+     * 
+     * @return The details of the most recent run
+     */
+    @Override
+    public Map<String, String> getLastRunDetails() {
+        return Collections.unmodifiableMap(lastRunDetails);
+    }
+    
+    @Override
+    public String getName() {
+        return interpolation ? "Memory-Mapped File Search (interpolation)" : "Memory-Mapped File Search (binary)";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Searches a sorted binary file of ints in place through memory-mapped segments of at most 1 GB, so files larger than the heap and larger than 2 GB are searched without copying; the first touch of each page costs a page fault.";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return interpolation ? "O(log log n) average, O(log n) worst case page touches per query" : "O(log n) page touches per query";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(1) heap; the OS page cache holds the touched pages";
+    }
+    
+    @Override
+    public AlgorithmCategory getCategory() {
+        return AlgorithmCategory.SEARCHING;
+    }
+    
+    /**
+     * A sorted file of ints mapped into memory as one or more segments, indexed by long
+     * positions so that files with more than Integer.MAX_VALUE bytes can be addressed.
+     * The mapping stays valid after the channel is closed and is released when the
+     * object is garbage collected.
+     */
+    public static final class MappedIntFile {
+        private final MappedByteBuffer[] segments;
+        private final int segmentShift;
+        private final long segmentMask;
+        private final long size;
+        
+        /**
+         * Maps a file of ints.
+         * 
+         * @param file The file
+         * @param segmentBytes The size of each segment, a power of two and a multiple of the int size
+         * @throws IOException If an I/O error occurs
+         */
+        MappedIntFile(Path file, long segmentBytes) throws IOException {
+            if (Long.bitCount(segmentBytes) != 1 || segmentBytes < Integer.BYTES || segmentBytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Segment size must be a power of two of at most 1 GB: " + segmentBytes);
+            }
+            
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long bytes = channel.size();
+                if (bytes % Integer.BYTES != 0) {
+                    throw new IllegalArgumentException("File length is not a multiple of " + Integer.BYTES + " bytes: " + file);
+                }
+                
+                size = bytes / Integer.BYTES;
+                segmentShift = Long.numberOfTrailingZeros(segmentBytes);
+                segmentMask = segmentBytes - 1;
+                segments = new MappedByteBuffer[(int) ((bytes + segmentBytes - 1) / segmentBytes)];
+                for (int i = 0; i < segments.length; i++) {
+                    long position = i * segmentBytes;
+                    segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentBytes, bytes - position));
+                }
+            }
+        }
+        
+        /**
+         * Gets the int at a position.
+         * 
+         * @param index The position, between 0 and size() - 1
+         * @return The int at the position
+         */
+        public int get(long index) {
+            long offset = index * Integer.BYTES;
+            return segments[(int) (offset >>> segmentShift)].getInt((int) (offset & segmentMask));
+        }
+        
+        /**
+         * Searches the file using Binary Search.
+         * 
+         * @param target The value to search for
+         * @return The position of the first occurrence of the target if found, -1 otherwise
+         */
+        public long binarySearch(int target) {
+            long low = 0;
+            long high = size;
+            
+            // Find the first position whose value is not less than the target
+            while (low < high) {
+                long mid = (low + high) >>> 1;
+                if (get(mid) < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            
+            return low < size && get(low) == target ? low : -1;
+        }
+        
+        /**
+         * Searches the file using Interpolation Search, bisecting whenever an estimate fails
+         * to at least halve the range, as SearchingAlgorithms.InterpolationSearch does.
+         * 
+         * @param target The value to search for
+         * @return The position of the target if found, -1 otherwise
+         */
+        public long interpolationSearch(int target) {
+            long low = 0;
+            long high = size - 1;
+            boolean bisect = false;
+            
+            while (low <= high) {
+                int lowValue = get(low);
+                int highValue = get(high);
+                if (target < lowValue || target > highValue) {
+                    break;
+                }
+                
+                long position;
+                if (bisect || highValue == lowValue) {
+                    position = low + (high - low) / 2;
+                } else {
+                    double fraction = ((double) target - lowValue) / ((double) highValue - lowValue);
+                    position = low + (long) (fraction * (high - low));
+                }
+                
+                long oldLength = high - low + 1;
+                int value = get(position);
+                if (value == target) {
+                    return position;
+                } else if (value < target) {
+                    low = position + 1;
+                } else {
+                    high = position - 1;
+                }
+                
+                bisect = !bisect && high - low + 1 > oldLength / 2;
+            }
+            
+            return -1;
+        }
+        
+        /**
+         * Gets the number of ints in the file.
+         * 
+         * @return The number of ints
+         */
+        public long size() {
+            return size;
+        }
+        
+        /**
+         * Gets the number of mapped segments.
+         * 
+         * @return The number of segments
+         */
+        public int segmentCount() {
+            return segments.length;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.algorithmtracker.algorithm;
+
+/**
+ * Interface for algorithms that run on their own pool of worker threads.
+ * The threads are started on the first run and stay alive until close() is called;
+ * a closed algorithm can still be run, and starts new threads when it is.
+ */
+public interface ParallelAlgorithm extends Algorithm, AutoCloseable {
+    
+    /**
+     * Gets the number of worker threads.
+     * 
+     * @return The parallelism
+     */
+    int getParallelism();
+    
+    /**
+     * Shuts down the worker threads, if any have been started.
+     */
+    @Override
+    void close();
+}
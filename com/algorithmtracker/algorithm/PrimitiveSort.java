@@ -0,0 +1,87 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Interface for sorting algorithms specialized for long keys, such as timestamps.
+ * Doubles are sorted through the same code by mapping them onto longs whose order
+ * matches Double.compare: -0.0 sorts before 0.0 and NaN sorts after positive infinity.
+ */
+public interface PrimitiveSort extends Algorithm {
+    
+    /**
+     * Sorts the range arr[from, to) in place.
+     * 
+     * @param arr The array containing the range to be sorted
+     * @param from The starting index (inclusive)
+     * @param to The ending index (exclusive)
+     */
+    void sortInPlace(long[] arr, int from, int to);
+    
+    /**
+     * Sorts a copy of an array, leaving the original untouched.
+     * 
+     * @param arr The array to be sorted
+     * @return The sorted array
+     */
+    default long[] sort(long[] arr) {
+        long[] result = Arrays.copyOf(arr, arr.length);
+        sortInPlace(result, 0, result.length);
+        return result;
+    }
+    
+    /**
+     * Sorts the range arr[from, to) in place in the order of Double.compare.
+     * All NaN values come back as the canonical NaN.
+     * 
+     * @param arr The array containing the range to be sorted
+     * @param from The starting index (inclusive)
+     * @param to The ending index (exclusive)
+     */
+    default void sortInPlace(double[] arr, int from, int to) {
+        long[] keys = new long[to - from];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sortableBits(arr[from + i]);
+        }
+        
+        sortInPlace(keys, 0, keys.length);
+        
+        for (int i = 0; i < keys.length; i++) {
+            arr[from + i] = fromSortableBits(keys[i]);
+        }
+    }
+    
+    /**
+     * Sorts a copy of an array in the order of Double.compare, leaving the original untouched.
+     * 
+     * @param arr The array to be sorted
+     * @return The sorted array
+     */
+    default double[] sort(double[] arr) {
+        double[] result = Arrays.copyOf(arr, arr.length);
+        sortInPlace(result, 0, result.length);
+        return result;
+    }
+    
+    /**
+     * Maps a double onto a long whose signed order matches Double.compare.
+     * Negative values have their magnitude bits inverted so larger magnitudes sort first.
+     * 
+     * @param value The double
+     * @return The sortable long
+     */
+    static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+    
+    /**
+     * Inverts sortableBits.
+     * 
+     * @param key The sortable long
+     * @return The double it was computed from
+     */
+    static double fromSortableBits(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+}
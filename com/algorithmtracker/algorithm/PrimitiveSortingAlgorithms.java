@@ -0,0 +1,575 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of sorting algorithms for long and double keys, and of index sorting.
+ * Includes Quick Sort, Merge Sort and LSD Radix Sort specialized for long[] (and, through
+ * PrimitiveSort, double[]), plus Index Sort, which returns the sorted order of a key
+ * column as an int[] permutation so parallel record arrays can be reordered.
+ */
+public class PrimitiveSortingAlgorithms {
+    
+    /** Ranges smaller than this are sorted with insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 24;
+    
+    /** Number of bits per digit of the radix sorts. */
+    private static final int DIGIT_BITS = 8;
+    
+    /** Number of buckets per digit of the radix sorts. */
+    private static final int RADIX = 1 << DIGIT_BITS;
+    
+    /**
+     * Sorts a range of an array using insertion sort.
+     * 
+     * @param arr The array to be sorted
+     * @param from The starting index (inclusive)
+     * @param to The ending index (exclusive)
+     */
+    private static void insertionSort(long[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    /**
+     * Swaps two elements of an array.
+     * 
+     * @param arr The array
+     * @param i The first index
+     * @param j The second index
+     */
+    private static void swap(long[] arr, int i, int j) {
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    
+    /**
+     * Counts the digits of every pass in a single read of the keys.
+     * 
+     * @param keys The keys, in unsigned order
+     * @param from The starting index (inclusive)
+     * @param to The ending index (exclusive)
+     * @return One histogram of RADIX counts per digit, least significant digit first
+     */
+    private static int[][] digitHistograms(long[] keys, int from, int to) {
+        int[][] counts = new int[Long.SIZE / DIGIT_BITS][RADIX];
+        
+        for (int i = from; i < to; i++) {
+            long key = keys[i];
+            for (int pass = 0; pass < counts.length; pass++) {
+                counts[pass][(int) (key >>> (pass * DIGIT_BITS)) & (RADIX - 1)]++;
+            }
+        }
+        
+        return counts;
+    }
+    
+    /**
+     * Turns a histogram into starting offsets, or reports that the pass can be skipped.
+     * 
+     * @param counts The histogram of one digit; replaced by the bucket start offsets
+     * @param n The number of keys
+     * @return false if every key has the same digit, so the pass would not move anything
+     */
+    private static boolean toOffsets(int[] counts, int n) {
+        int sum = 0;
+        for (int d = 0; d < RADIX; d++) {
+            if (counts[d] == n) {
+                return false;
+            }
+            int count = counts[d];
+            counts[d] = sum;
+            sum += count;
+        }
+        return true;
+    }
+    
+    /**
+     * Quick Sort implementation for long keys.
+     */
+    public static class LongQuickSort implements PrimitiveSort {
+        
+        /**
+         * Sorts a range of an array in place using an introsort: median-of-three Quick Sort
+         * that falls back to heap sort when the recursion gets too deep.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(long[] arr, int from, int to) {
+            if (to - from > 1) {
+                quickSort(arr, from, to, 2 * (31 - Integer.numberOfLeadingZeros(to - from)));
+            }
+        }
+        
+        /**
+         * Sorts arr[from, to), recursing into the smaller partition and looping on the larger one.
+         * 
+         * @param arr The array to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param depthAllowed The number of partitioning levels allowed before switching to heap sort
+         */
+        private void quickSort(long[] arr, int from, int to, int depthAllowed) {
+            while (to - from > INSERTION_SORT_THRESHOLD) {
+                if (depthAllowed-- == 0) {
+                    heapSort(arr, from, to);
+                    return;
+                }
+                
+                // Median of three; the outer two also act as sentinels for the scans
+                int mid = from + (to - from) / 2;
+                if (arr[mid] < arr[from]) {
+                    swap(arr, from, mid);
+                }
+                if (arr[to - 1] < arr[mid]) {
+                    swap(arr, mid, to - 1);
+                    if (arr[mid] < arr[from]) {
+                        swap(arr, from, mid);
+                    }
+                }
+                long pivot = arr[mid];
+                
+                int i = from;
+                int j = to - 1;
+                while (i <= j) {
+                    while (arr[i] < pivot) {
+                        i++;
+                    }
+                    while (arr[j] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(arr, i, j);
+                        i++;
+                        j--;
+                    }
+                }
+                
+                // arr[from, j] <= pivot and arr[i, to) >= pivot
+                if (j - from < to - i) {
+                    quickSort(arr, from, j + 1, depthAllowed);
+                    from = i;
+                } else {
+                    quickSort(arr, i, to, depthAllowed);
+                    to = j + 1;
+                }
+            }
+            
+            insertionSort(arr, from, to);
+        }
+        
+        /**
+         * Sorts a range of an array using heap sort.
+         * 
+         * @param arr The array to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        private void heapSort(long[] arr, int from, int to) {
+            int n = to - from;
+            
+            for (int i = n / 2 - 1; i >= 0; i--) {
+                siftDown(arr, from, i, n);
+            }
+            
+            for (int i = n - 1; i > 0; i--) {
+                swap(arr, from, from + i);
+                siftDown(arr, from, 0, i);
+            }
+        }
+        
+        /**
+         * Restores the max-heap property for the heap stored at arr[offset, offset + size).
+         * 
+         * @param arr The array holding the heap
+         * @param offset The index of the heap root
+         * @param node The heap index to sift down
+         * @param size The number of elements in the heap
+         */
+        private void siftDown(long[] arr, int offset, int node, int size) {
+            long value = arr[offset + node];
+            
+            while (true) {
+                int child = 2 * node + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && arr[offset + child + 1] > arr[offset + child]) {
+                    child++;
+                }
+                if (arr[offset + child] <= value) {
+                    break;
+                }
+                arr[offset + node] = arr[offset + child];
+                node = child;
+            }
+            
+            arr[offset + node] = value;
+        }
+        
+        @Override
+        public String getName() {
+            return "Quick Sort (long)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "An introsort over primitive long keys: median-of-three Quick Sort with insertion sort for small ranges and a heap sort fallback, without boxing.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n log n) average and worst case";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(log n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+    
+    /**
+     * Merge Sort implementation for long keys.
+     */
+    public static class LongMergeSort implements PrimitiveSort {
+        
+        /**
+         * Sorts a range of an array in place using a stable Merge Sort that alternates
+         * between the array and one scratch copy instead of copying at every level.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(long[] arr, int from, int to) {
+            if (to - from > 1) {
+                long[] aux = Arrays.copyOfRange(arr, from, to);
+                mergeSort(aux, arr, from, to, -from);
+            }
+        }
+        
+        /**
+         * Sorts dest[low, high), using the same elements in src[low + offset, high + offset) as scratch.
+         * 
+         * @param src The scratch array, holding the same elements as the destination range
+         * @param dest The array to receive the sorted range
+         * @param low The starting index in dest (inclusive)
+         * @param high The ending index in dest (exclusive)
+         * @param offset The index of src corresponding to dest index 0
+         */
+        private void mergeSort(long[] src, long[] dest, int low, int high, int offset) {
+            int length = high - low;
+            
+            if (length < INSERTION_SORT_THRESHOLD) {
+                insertionSort(dest, low, high);
+                return;
+            }
+            
+            // Sort both halves into src, then merge them back into dest
+            int destLow = low;
+            low += offset;
+            high += offset;
+            int mid = (low + high) >>> 1;
+            mergeSort(dest, src, low, mid, -offset);
+            mergeSort(dest, src, mid, high, -offset);
+            
+            // The halves are already in order, so no comparisons are needed
+            if (src[mid - 1] <= src[mid]) {
+                System.arraycopy(src, low, dest, destLow, length);
+                return;
+            }
+            
+            for (int i = destLow, p = low, q = mid; i < destLow + length; i++) {
+                if (q >= high || (p < mid && src[p] <= src[q])) {
+                    dest[i] = src[p++];
+                } else {
+                    dest[i] = src[q++];
+                }
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "Merge Sort (long)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A stable Merge Sort over primitive long keys that ping-pongs between the array and a single scratch copy and skips merges of halves that are already in order.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n log n)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+    
+    /**
+     * LSD Radix Sort implementation for long keys.
+     */
+    public static class LongRadixSort implements PrimitiveSort {
+        
+        /**
+         * Sorts a range of an array in place using LSD Radix Sort with 8-bit digits.
+         * Passes whose digit is the same for every key are skipped, so small timestamps
+         * or values sharing their high bits need fewer than eight passes.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(long[] arr, int from, int to) {
+            int n = to - from;
+            if (n < 2) {
+                return;
+            }
+            
+            // Flip the sign bit so unsigned digit order matches signed order
+            long[] src = new long[n];
+            for (int i = 0; i < n; i++) {
+                src[i] = arr[from + i] ^ Long.MIN_VALUE;
+            }
+            long[] dst = new long[n];
+            int[][] counts = digitHistograms(src, 0, n);
+            
+            for (int pass = 0; pass < counts.length; pass++) {
+                if (!toOffsets(counts[pass], n)) {
+                    continue;
+                }
+                
+                int[] offsets = counts[pass];
+                int shift = pass * DIGIT_BITS;
+                for (int i = 0; i < n; i++) {
+                    long key = src[i];
+                    dst[offsets[(int) (key >>> shift) & (RADIX - 1)]++] = key;
+                }
+                
+                long[] temp = src;
+                src = dst;
+                dst = temp;
+            }
+            
+            for (int i = 0; i < n; i++) {
+                arr[from + i] = src[i] ^ Long.MIN_VALUE;
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "LSD Radix Sort (long)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Sorts primitive long keys by eight 8-bit digits from least to most significant, counting all digits in one pass and skipping digits that are the same for every key.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n · w / 8) for w-bit keys";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+    
+    /**
+     * Index Sort implementation, which sorts a permutation instead of the keys themselves.
+     */
+    public static class IndexSort implements Algorithm {
+        
+        /**
+         * Computes the stable sorted order of an int key column.
+         * 
+         * @param keys The key column, left untouched
+         * @return The permutation order such that keys[order[0]] <= keys[order[1]] <= ...
+         */
+        public int[] sortedOrder(int[] keys) {
+            long[] unsignedKeys = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                unsignedKeys[i] = (keys[i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            }
+            return radixOrder(unsignedKeys);
+        }
+        
+        /**
+         * Computes the stable sorted order of a long key column.
+         * 
+         * @param keys The key column, left untouched
+         * @return The permutation order such that keys[order[0]] <= keys[order[1]] <= ...
+         */
+        public int[] sortedOrder(long[] keys) {
+            long[] unsignedKeys = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                unsignedKeys[i] = keys[i] ^ Long.MIN_VALUE;
+            }
+            return radixOrder(unsignedKeys);
+        }
+        
+        /**
+         * Computes the stable sorted order of a double key column in the order of Double.compare.
+         * 
+         * @param keys The key column, left untouched
+         * @return The permutation order such that keys[order[0]] <= keys[order[1]] <= ...
+         */
+        public int[] sortedOrder(double[] keys) {
+            long[] unsignedKeys = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                unsignedKeys[i] = PrimitiveSort.sortableBits(keys[i]) ^ Long.MIN_VALUE;
+            }
+            return radixOrder(unsignedKeys);
+        }
+        
+        /**
+         * Sorts keys and their original positions together with LSD Radix Sort. Moving the
+         * keys along with the indices keeps every pass a sequential scan rather than a
+         * random lookup of keys[index].
+         * 
+         * @param keys The keys in unsigned order; used as scratch
+         * @return The original positions in sorted key order
+         */
+        private int[] radixOrder(long[] keys) {
+            int n = keys.length;
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            if (n < 2) {
+                return order;
+            }
+            
+            long[] keysDst = new long[n];
+            int[] orderDst = new int[n];
+            int[][] counts = digitHistograms(keys, 0, n);
+            
+            for (int pass = 0; pass < counts.length; pass++) {
+                if (!toOffsets(counts[pass], n)) {
+                    continue;
+                }
+                
+                int[] offsets = counts[pass];
+                int shift = pass * DIGIT_BITS;
+                for (int i = 0; i < n; i++) {
+                    long key = keys[i];
+                    int position = offsets[(int) (key >>> shift) & (RADIX - 1)]++;
+                    keysDst[position] = key;
+                    orderDst[position] = order[i];
+                }
+                
+                long[] tempKeys = keys;
+                keys = keysDst;
+                keysDst = tempKeys;
+                int[] tempOrder = order;
+                order = orderDst;
+                orderDst = tempOrder;
+            }
+            
+            return order;
+        }
+        
+        /**
+         * Reorders an int column by a permutation.
+         * 
+         * @param column The column to reorder, left untouched
+         * @param order The permutation, as returned by sortedOrder
+         * @return The reordered column, where result[i] = column[order[i]]
+         */
+        public int[] reorder(int[] column, int[] order) {
+            int[] result = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                result[i] = column[order[i]];
+            }
+            return result;
+        }
+        
+        /**
+         * Reorders a long column by a permutation.
+         * 
+         * @param column The column to reorder, left untouched
+         * @param order The permutation, as returned by sortedOrder
+         * @return The reordered column, where result[i] = column[order[i]]
+         */
+        public long[] reorder(long[] column, int[] order) {
+            long[] result = new long[order.length];
+            for (int i = 0; i < order.length; i++) {
+                result[i] = column[order[i]];
+            }
+            return result;
+        }
+        
+        /**
+         * Reorders a double column by a permutation.
+         * 
+         * @param column The column to reorder, left untouched
+         * @param order The permutation, as returned by sortedOrder
+         * @return The reordered column, where result[i] = column[order[i]]
+         */
+        public double[] reorder(double[] column, int[] order) {
+            double[] result = new double[order.length];
+            for (int i = 0; i < order.length; i++) {
+                result[i] = column[order[i]];
+            }
+            return result;
+        }
+        
+        @Override
+        public String getName() {
+            return "Index Sort (LSD radix)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Computes the stable sorted order of a primitive key column as an int permutation with LSD Radix Sort, so parallel record columns can be reordered without creating any record objects.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n · w / 8) for w-bit keys";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+}
@@ -0,0 +1,509 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Implementation of radix sorting algorithms for 32-bit int keys.
+ * Includes LSD Radix Sort, MSD (American Flag) Radix Sort, and Parallel LSD Radix Sort.
+ * Negative numbers are handled by flipping the sign bit, which maps signed order onto unsigned order.
+ */
+public class RadixSortingAlgorithms {
+    
+    /**
+     * Converts an int into a key whose unsigned order matches the signed order of the value.
+     * 
+     * @param value The value
+     * @return The value with its sign bit flipped
+     */
+    private static int key(int value) {
+        return value ^ Integer.MIN_VALUE;
+    }
+    
+    /**
+     * Validates the digit width used by the LSD variants.
+     * 
+     * @param digitBits The number of bits per digit
+     */
+    private static void checkDigitBits(int digitBits) {
+        if (digitBits < 1 || digitBits > 16) {
+            throw new IllegalArgumentException("Digit width must be between 1 and 16 bits: " + digitBits);
+        }
+    }
+    
+    /**
+     * LSD (least significant digit first) Radix Sort implementation.
+     * Builds the histograms of all digits in one pass and ping-pongs between the
+     * array and a single buffer, skipping passes in which every key shares the same digit.
+     */
+    public static class LsdRadixSort implements InPlaceSort {
+        
+        private final int digitBits;
+        
+        /**
+         * Constructs an LSD radix sort using 8-bit digits.
+         */
+        public LsdRadixSort() {
+            this(8);
+        }
+        
+        /**
+         * Constructs an LSD radix sort with the specified digit width.
+         * 8-bit digits need four passes, 11-bit digits need three.
+         * 
+         * @param digitBits The number of bits per digit
+         */
+        public LsdRadixSort(int digitBits) {
+            checkDigitBits(digitBits);
+            this.digitBits = digitBits;
+        }
+        
+        /**
+         * Sorts a range of an array in place using LSD Radix Sort algorithm.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            int n = to - from;
+            if (n < 2) {
+                return;
+            }
+            
+            int mask = (1 << digitBits) - 1;
+            int passes = (Integer.SIZE + digitBits - 1) / digitBits;
+            
+            // Count every digit of every key in a single read of the input
+            int[][] counts = new int[passes][mask + 1];
+            for (int i = from; i < to; i++) {
+                int k = key(arr[i]);
+                for (int pass = 0; pass < passes; pass++) {
+                    counts[pass][(k >>> (pass * digitBits)) & mask]++;
+                }
+            }
+            
+            int[] buffer = new int[n];
+            int[] src = arr;
+            int srcFrom = from;
+            int[] dst = buffer;
+            int dstFrom = 0;
+            
+            for (int pass = 0; pass < passes; pass++) {
+                int shift = pass * digitBits;
+                int[] count = counts[pass];
+                
+                // A pass where every key has the same digit would only copy the data
+                if (count[(key(src[srcFrom]) >>> shift) & mask] == n) {
+                    continue;
+                }
+                
+                // Turn the counts into the starting position of each digit
+                int position = dstFrom;
+                for (int digit = 0; digit <= mask; digit++) {
+                    int c = count[digit];
+                    count[digit] = position;
+                    position += c;
+                }
+                
+                for (int i = srcFrom; i < srcFrom + n; i++) {
+                    int value = src[i];
+                    dst[count[(key(value) >>> shift) & mask]++] = value;
+                }
+                
+                int[] tempArray = src;
+                src = dst;
+                dst = tempArray;
+                int tempFrom = srcFrom;
+                srcFrom = dstFrom;
+                dstFrom = tempFrom;
+            }
+            
+            // After an odd number of passes the sorted data lives in the buffer
+            if (src != arr) {
+                System.arraycopy(src, srcFrom, arr, from, n);
+            }
+        }
+        
+        /**
+         * Gets the number of bits per digit.
+         * 
+         * @return The digit width
+         */
+        public int getDigitBits() {
+            return digitBits;
+        }
+        
+        @Override
+        public String getName() {
+            return "LSD Radix Sort (" + digitBits + "-bit digits)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A non-comparison sort that distributes keys by one digit at a time, from the least to the most significant, using counting passes that bounce between the array and one buffer.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(d(n + 2^b)) with d = ⌈32 / b⌉ passes of b-bit digits";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n + 2^b)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+    
+    /**
+     * MSD (most significant digit first) Radix Sort implementation using
+     * American flag sort, which permutes each bucket in place by cycle-chasing.
+     */
+    public static class MsdRadixSort implements InPlaceSort {
+        
+        private static final int DIGIT_BITS = 8;
+        private static final int RADIX = 1 << DIGIT_BITS;
+        private static final int MASK = RADIX - 1;
+        private static final int LEVELS = Integer.SIZE / DIGIT_BITS;
+        
+        /** Buckets smaller than this are finished with insertion sort. */
+        private static final int INSERTION_SORT_THRESHOLD = 64;
+        
+        /**
+         * Sorts a range of an array in place using American Flag Sort algorithm.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            
+            // One set of bucket pointers per level, reused by every bucket at that level
+            int[][] next = new int[LEVELS][RADIX];
+            int[][] ends = new int[LEVELS][RADIX];
+            americanFlagSort(arr, from, to, 0, next, ends);
+        }
+        
+        /**
+         * Recursively sorts arr[from, to) on the digit selected by level.
+         * 
+         * @param arr The array to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param level The digit level, 0 being the most significant
+         * @param next Scratch arrays holding the next free slot of each bucket per level
+         * @param ends Scratch arrays holding the end of each bucket per level
+         */
+        private void americanFlagSort(int[] arr, int from, int to, int level, int[][] next, int[][] ends) {
+            if (to - from < INSERTION_SORT_THRESHOLD) {
+                insertionSort(arr, from, to);
+                return;
+            }
+            
+            int shift = Integer.SIZE - DIGIT_BITS * (level + 1);
+            int[] bucketNext = next[level];
+            int[] bucketEnd = ends[level];
+            
+            // Count the keys per bucket
+            Arrays.fill(bucketEnd, 0);
+            for (int i = from; i < to; i++) {
+                bucketEnd[(key(arr[i]) >>> shift) & MASK]++;
+            }
+            
+            // Compute bucket boundaries
+            int position = from;
+            for (int digit = 0; digit < RADIX; digit++) {
+                bucketNext[digit] = position;
+                position += bucketEnd[digit];
+                bucketEnd[digit] = position;
+            }
+            
+            // Move every element into its bucket by following displacement cycles
+            for (int digit = 0; digit < RADIX; digit++) {
+                while (bucketNext[digit] < bucketEnd[digit]) {
+                    int value = arr[bucketNext[digit]];
+                    int target = (key(value) >>> shift) & MASK;
+                    
+                    while (target != digit) {
+                        int displaced = arr[bucketNext[target]];
+                        arr[bucketNext[target]++] = value;
+                        value = displaced;
+                        target = (key(value) >>> shift) & MASK;
+                    }
+                    
+                    arr[bucketNext[digit]++] = value;
+                }
+            }
+            
+            if (level + 1 == LEVELS) {
+                return;
+            }
+            
+            // Recurse into each bucket on the next digit; deeper levels reuse their own scratch arrays
+            int bucketStart = from;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int bucketStop = bucketEnd[digit];
+                if (bucketStop - bucketStart > 1) {
+                    americanFlagSort(arr, bucketStart, bucketStop, level + 1, next, ends);
+                }
+                bucketStart = bucketStop;
+            }
+        }
+        
+        /**
+         * Sorts a range of an array using insertion sort.
+         * 
+         * @param arr The array to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        private void insertionSort(int[] arr, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                int value = arr[i];
+                int j = i - 1;
+                while (j >= from && arr[j] > value) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                arr[j + 1] = value;
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "MSD Radix Sort (American Flag)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A non-comparison sort that partitions keys in place by their most significant byte, then recursively sorts each bucket on the next byte, finishing small buckets with insertion sort.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(4n) for 32-bit keys and 8-bit digits";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(2^b) per recursion level";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+    
+    /**
+     * Parallel LSD Radix Sort implementation.
+     * Each pass splits the input into one chunk per thread: every chunk builds its own
+     * histogram, the histograms are combined into per-chunk write offsets, and every
+     * chunk then scatters its keys without any synchronization.
+     */
+    public static class ParallelLsdRadixSort implements InPlaceSort, ParallelAlgorithm {
+        
+        /** Ranges smaller than this are sorted by a single chunk. */
+        private static final int MIN_CHUNK_SIZE = 1 << 14;
+        
+        private final int parallelism;
+        private final int digitBits;
+        private final WorkerPool pool;
+        
+        /**
+         * Constructs a parallel LSD radix sort using all available processors and 8-bit digits.
+         */
+        public ParallelLsdRadixSort() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs a parallel LSD radix sort with the specified number of threads and 8-bit digits.
+         * 
+         * @param parallelism The number of worker threads
+         */
+        public ParallelLsdRadixSort(int parallelism) {
+            this(parallelism, 8);
+        }
+        
+        /**
+         * Constructs a parallel LSD radix sort with the specified number of threads and digit width.
+         * 
+         * @param parallelism The number of worker threads
+         * @param digitBits The number of bits per digit
+         */
+        public ParallelLsdRadixSort(int parallelism, int digitBits) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+            }
+            checkDigitBits(digitBits);
+            this.parallelism = parallelism;
+            this.digitBits = digitBits;
+            this.pool = new WorkerPool(parallelism);
+        }
+        
+        /**
+         * Sorts a range of an array in place using Parallel LSD Radix Sort algorithm.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            int n = to - from;
+            if (n < 2) {
+                return;
+            }
+            
+            int radix = 1 << digitBits;
+            int mask = radix - 1;
+            int passes = (Integer.SIZE + digitBits - 1) / digitBits;
+            int chunks = Math.max(1, Math.min(parallelism, n / MIN_CHUNK_SIZE));
+            int chunkSize = (n + chunks - 1) / chunks;
+            
+            int[][] counts = new int[chunks][radix];
+            int[] buffer = new int[n];
+            
+            int[] src = arr;
+            int srcFrom = from;
+            int[] dst = buffer;
+            int dstFrom = 0;
+            
+            for (int pass = 0; pass < passes; pass++) {
+                int shift = pass * digitBits;
+                int[] passSrc = src;
+                int passSrcFrom = srcFrom;
+                int[] passDst = dst;
+                
+                // Each chunk builds a private histogram of its slice
+                forEachChunk(chunks, chunk -> {
+                    int[] count = counts[chunk];
+                    Arrays.fill(count, 0);
+                    int start = passSrcFrom + chunk * chunkSize;
+                    int end = Math.min(start + chunkSize, passSrcFrom + n);
+                    for (int i = start; i < end; i++) {
+                        count[(key(passSrc[i]) >>> shift) & mask]++;
+                    }
+                });
+                
+                // Skip the pass if every key has the same digit
+                int firstDigit = (key(src[srcFrom]) >>> shift) & mask;
+                int sameDigit = 0;
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    sameDigit += counts[chunk][firstDigit];
+                }
+                if (sameDigit == n) {
+                    continue;
+                }
+                
+                // Digit-major prefix sum gives every chunk its own disjoint output slots per digit
+                int position = dstFrom;
+                for (int digit = 0; digit < radix; digit++) {
+                    for (int chunk = 0; chunk < chunks; chunk++) {
+                        int c = counts[chunk][digit];
+                        counts[chunk][digit] = position;
+                        position += c;
+                    }
+                }
+                
+                forEachChunk(chunks, chunk -> {
+                    int[] offsets = counts[chunk];
+                    int start = passSrcFrom + chunk * chunkSize;
+                    int end = Math.min(start + chunkSize, passSrcFrom + n);
+                    for (int i = start; i < end; i++) {
+                        int value = passSrc[i];
+                        passDst[offsets[(key(value) >>> shift) & mask]++] = value;
+                    }
+                });
+                
+                int[] tempArray = src;
+                src = dst;
+                dst = tempArray;
+                int tempFrom = srcFrom;
+                srcFrom = dstFrom;
+                dstFrom = tempFrom;
+            }
+            
+            if (src != arr) {
+                System.arraycopy(src, srcFrom, arr, from, n);
+            }
+        }
+        
+        /**
+         * Runs the body once per chunk, in parallel when there is more than one chunk,
+         * and waits for all chunks to finish.
+         * 
+         * @param chunks The number of chunks
+         * @param body The work to perform for a chunk index
+         */
+        private void forEachChunk(int chunks, IntConsumer body) {
+            if (chunks == 1) {
+                body.accept(0);
+                return;
+            }
+            
+            ForkJoinPool workers = pool.get();
+            ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks];
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int index = chunk;
+                tasks[chunk] = workers.submit(() -> body.accept(index));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+        
+        @Override
+        public void close() {
+            pool.shutdown();
+        }
+        
+        /**
+         * Gets the number of worker threads used by this sort.
+         * 
+         * @return The parallelism
+         */
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+        
+        @Override
+        public String getName() {
+            return "Parallel LSD Radix Sort (" + parallelism + (parallelism == 1 ? " thread)" : " threads)");
+        }
+        
+        @Override
+        public String getDescription() {
+            return "An LSD radix sort whose histogram and scatter phases are split across threads; per-thread histograms are combined into disjoint write offsets so the scatter needs no locks.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(d(n / p + p · 2^b)) with d = ⌈32 / b⌉ passes on p threads";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n + p · 2^b)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.algorithmtracker.algorithm;
+
+/**
+ * Interface for algorithms that search an int array for a target value.
+ */
+public interface SearchAlgorithm extends Algorithm {
+    
+    /**
+     * Searches for a target value in an array.
+     * 
+     * @param arr The array to search in
+     * @param target The value to search for
+     * @return The index of the target if found, -1 otherwise
+     */
+    int search(int[] arr, int target);
+    
+    /**
+     * Searches for many target values in the same array. Implementations may reorder or
+     * interleave the work across queries to use the memory system better than one search
+     * at a time.
+     * 
+     * @param haystack The array to search in
+     * @param queries The values to search for
+     * @param out Receives, for each query, an index of it in the haystack, or -1 if it is absent
+     */
+    default void searchAll(int[] haystack, int[] queries, int[] out) {
+        if (out.length < queries.length) {
+            throw new IllegalArgumentException("Output length " + out.length + " is less than the number of queries " + queries.length);
+        }
+        for (int i = 0; i < queries.length; i++) {
+            out[i] = search(haystack, queries[i]);
+        }
+    }
+    
+    /**
+     * Checks whether the algorithm only works on arrays sorted in ascending order.
+     * 
+     * @return true if the array must be sorted
+     */
+    default boolean requiresSortedInput() {
+        return false;
+    }
+    
+    /**
+     * Checks whether the algorithm builds an index of the array, such as a search tree,
+     * before it answers queries.
+     * 
+     * @return true if the algorithm has a build phase
+     */
+    default boolean buildsIndex() {
+        return false;
+    }
+    
+    /**
+     * Builds the index the algorithm keeps for an array, replacing any index it holds, so
+     * that the build cost can be measured apart from the per-query cost. Later searches of
+     * the same array instance reuse the index. Algorithms without a build phase do nothing.
+     * 
+     * @param arr The array that will be searched
+     */
+    default void prepare(int[] arr) {
+    }
+}
@@ -1,15 +1,115 @@
 package com.algorithmtracker.algorithm;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Implementation of various searching algorithms.
- * Includes Linear Search and Binary Search.
+ * Includes Linear Search, Binary Search, Branchless Binary Search, Eytzinger Search,
+ * Static B-Tree Search, Hash Index Search, Learned Index Search, Interpolation Search,
+ * Exponential Search, Block and Parallel Linear Search, and the batch strategies
+ * Sorted Merge Search and Interleaved Binary Search.
  */
 public class SearchingAlgorithms {
     
+    /** Number of queries that share one scan of the array in a batched Linear Search. */
+    private static final int LINEAR_BATCH_SIZE = 8;
+    
+    /** Number of binary searches advanced in lockstep by Interleaved Binary Search. */
+    private static final int INTERLEAVED_LANES = 16;
+    
+    /** Number of elements compared together by the block scan of the linear searches. */
+    private static final int SCAN_BLOCK_SIZE = 32;
+    
+    /**
+     * Validates the output array of a batch search.
+     * 
+     * @param queries The values to search for
+     * @param out The array receiving the results
+     */
+    private static void checkBatch(int[] queries, int[] out) {
+        if (out.length < queries.length) {
+            throw new IllegalArgumentException("Output length " + out.length + " is less than the number of queries " + queries.length);
+        }
+    }
+    
+    /**
+     * Finds the first occurrence of a target in a range with a block scan. Each block is
+     * tested with the zero-detection trick (d - 1) & ~d, whose sign bit is set exactly when
+     * d = element ^ target is zero; OR-ing these over a block is branch-free and vectorizable.
+     * 
+     * @param arr The array to search in
+     * @param from The starting index (inclusive)
+     * @param to The ending index (exclusive)
+     * @param target The value to search for
+     * @return The index of the first occurrence of the target in the range, or -1
+     */
+    private static int scanRange(int[] arr, int from, int to, int target) {
+        int i = from;
+        
+        for (; i <= to - SCAN_BLOCK_SIZE; i += SCAN_BLOCK_SIZE) {
+            int matches = 0;
+            for (int j = i; j < i + SCAN_BLOCK_SIZE; j++) {
+                int difference = arr[j] ^ target;
+                matches |= (difference - 1) & ~difference;
+            }
+            if (matches < 0) {
+                break;
+            }
+        }
+        
+        // Find the exact position within the matching block, or scan the tail
+        for (; i < to; i++) {
+            if (arr[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Computes the worst-case number of probes of Binary Search, for comparison with other searches.
+     * 
+     * @param length The length of the array
+     * @return The number of probes needed to search an array of that length
+     */
+    private static int binarySearchProbes(int length) {
+        return 32 - Integer.numberOfLeadingZeros(length);
+    }
+    
+    /**
+     * Finds the first index of a sorted range whose element is not less than the target.
+     * 
+     * @param arr The sorted array
+     * @param from The starting index (inclusive)
+     * @param to The ending index (exclusive)
+     * @param target The value to search for
+     * @return The lower bound of the target, or to if every element is less
+     */
+    private static int lowerBound(int[] arr, int from, int to, int target) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (arr[mid] < target) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+    
     /**
      * Linear Search implementation.
      */
-    public static class LinearSearch implements Algorithm {
+    public static class LinearSearch implements SearchAlgorithm {
         
         /**
          * Searches for a target value in an array using Linear Search.
@@ -18,6 +118,7 @@ public class SearchingAlgorithms {
          * @param target The value to search for
          * @return The index of the target if found, -1 otherwise
          */
+        @Override
         public int search(int[] arr, int target) {
             for (int i = 0; i < arr.length; i++) {
                 if (arr[i] == target) {
@@ -27,6 +128,35 @@ public class SearchingAlgorithms {
             return -1;
         }
         
+        /**
+         * Searches for many target values with one scan of the array per group of queries,
+         * so the array is read from memory once per group instead of once per query.
+         * 
+         * @param haystack The array to search in
+         * @param queries The values to search for
+         * @param out Receives, for each query, the index of its first occurrence, or -1 if it is absent
+         */
+        @Override
+        public void searchAll(int[] haystack, int[] queries, int[] out) {
+            checkBatch(queries, out);
+            
+            for (int start = 0; start < queries.length; start += LINEAR_BATCH_SIZE) {
+                int end = Math.min(start + LINEAR_BATCH_SIZE, queries.length);
+                Arrays.fill(out, start, end, -1);
+                int remaining = end - start;
+                
+                for (int i = 0; i < haystack.length && remaining > 0; i++) {
+                    int value = haystack[i];
+                    for (int q = start; q < end; q++) {
+                        if (out[q] < 0 && queries[q] == value) {
+                            out[q] = i;
+                            remaining--;
+                        }
+                    }
+                }
+            }
+        }
+        
         @Override
         public String getName() {
             return "Linear Search";
@@ -57,7 +187,7 @@ public class SearchingAlgorithms {
      * Binary Search implementation.
      * Note: The array must be sorted for Binary Search to work correctly.
      */
-    public static class BinarySearch implements Algorithm {
+    public static class BinarySearch implements SearchAlgorithm {
         
         /**
          * Searches for a target value in a sorted array using Binary Search.
@@ -66,6 +196,7 @@ public class SearchingAlgorithms {
          * @param target The value to search for
          * @return The index of the target if found, -1 otherwise
          */
+        @Override
         public int search(int[] arr, int target) {
             int left = 0;
             int right = arr.length - 1;
@@ -92,6 +223,11 @@ public class SearchingAlgorithms {
             return -1;
         }
         
+        @Override
+        public boolean requiresSortedInput() {
+            return true;
+        }
+        
         @Override
         public String getName() {
             return "Binary Search";
@@ -117,4 +253,1816 @@ public class SearchingAlgorithms {
             return AlgorithmCategory.SEARCHING;
         }
     }
+    
+    /**
+     * Branchless Binary Search implementation.
+     * Note: The array must be sorted for Binary Search to work correctly.
+     */
+    public static class BranchlessBinarySearch implements SearchAlgorithm {
+        
+        /** Receives the prefetch loads so the JIT cannot discard them as dead code. */
+        private int prefetchSink;
+        
+        /**
+         * Searches for a target value in a sorted array using a branchless Binary Search.
+         * Every query runs the same number of halving steps, and each step advances the base
+         * index by a sign mask of the comparison instead of taking a branch that mispredicts
+         * half of the time.
+         * 
+         * @param arr The sorted array to search in
+         * @param target The value to search for
+         * @return The index of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            int n = arr.length;
+            if (n == 0) {
+                return -1;
+            }
+            
+            int base = 0;
+            int touched = 0;
+            while (n > 1) {
+                int half = n >>> 1;
+                
+                // Load both possible midpoints of the next step early, so the fetch of the
+                // one that is needed overlaps this comparison
+                int quarter = half >>> 1;
+                touched ^= arr[base + quarter] ^ arr[base + half + quarter];
+                
+                // The difference, taken as a long so it cannot overflow, is negative exactly
+                // when the midpoint is below the target; its sign becomes an all-ones mask
+                base += half & (int) (((long) arr[base + half] - target) >> 63);
+                n -= half;
+            }
+            prefetchSink = touched;
+            
+            // base is now the last index whose element is below the target, or 0
+            int index = base + (arr[base] < target ? 1 : 0);
+            return index < arr.length && arr[index] == target ? index : -1;
+        }
+        
+        @Override
+        public boolean requiresSortedInput() {
+            return true;
+        }
+        
+        @Override
+        public String getName() {
+            return "Branchless Binary Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A Binary Search with a fixed number of steps that advances its base index arithmetically rather than by branching, and loads both candidate midpoints of the next step early, so large arrays pay for cache misses but not for branch mispredictions.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(log n)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(1)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Eytzinger Search implementation.
+     * Note: The array must be sorted; it is copied once into Eytzinger (breadth-first) order.
+     */
+    public static class EytzingerSearch implements SearchAlgorithm, InstrumentedAlgorithm {
+        private int[] cachedSource;
+        private EytzingerLayout cachedLayout;
+        private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+        
+        /**
+         * Searches for a target value in a sorted array through its Eytzinger layout.
+         * The layout is built on the first search of an array and reused for as long as the
+         * same array instance is searched, so the array must not be modified in between.
+         * 
+         * @param arr The sorted array to search in
+         * @param target The value to search for
+         * @return The index in arr of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            return layoutFor(arr).search(target);
+        }
+        
+        /**
+         * Gets the Eytzinger layout of a sorted array, building it unless it is already cached.
+         * 
+         * @param arr The sorted array
+         * @return The layout of the array
+         */
+        public EytzingerLayout layoutFor(int[] arr) {
+            if (arr != cachedSource) {
+                long startTime = System.nanoTime();
+                cachedLayout = new EytzingerLayout(arr);
+                double buildTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+                cachedSource = arr;
+                
+                Map<String, String> details = new LinkedHashMap<>();
+                details.put("Layout build (ms)", String.format("%.3f", buildTimeMs));
+                details.put("Layout size (KB)", String.valueOf(cachedLayout.sizeInBytes() / 1024));
+                lastRunDetails = details;
+            }
+            return cachedLayout;
+        }
+        
+        @Override
+        public boolean buildsIndex() {
+            return true;
+        }
+        
+        @Override
+        public void prepare(int[] arr) {
+            cachedSource = null;
+            layoutFor(arr);
+        }
+        
+        /**
+         * Gets the details of the most recent layout build: its time and memory footprint.
+         * 
+         * @return The details of the most recent layout build
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            return Collections.unmodifiableMap(lastRunDetails);
+        }
+        
+        @Override
+        public boolean requiresSortedInput() {
+            return true;
+        }
+        
+        @Override
+        public String getName() {
+            return "Eytzinger Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Stores the sorted array in breadth-first (Eytzinger) order, where the children of node k are 2k and 2k + 1, so the first levels of every search share a few hot cache lines and the next levels sit close together; the descent is branchless.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(log n) per query, O(n) once to build the layout";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n) for the layout";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+        
+        /**
+         * A sorted array in Eytzinger order, reusable across any number of queries.
+         */
+        public static final class EytzingerLayout {
+            private final int size;
+            private final int[] values;
+            private final int[] sortedIndices;
+            
+            /** Receives the prefetch loads so the JIT cannot discard them as dead code. */
+            private int prefetchSink;
+            
+            /**
+             * Builds the layout of a sorted array.
+             * 
+             * @param sorted The array, sorted in ascending order
+             */
+            public EytzingerLayout(int[] sorted) {
+                size = sorted.length;
+                
+                // Slot 0 is unused so that the children of node k are 2k and 2k + 1
+                values = new int[size + 1];
+                sortedIndices = new int[size + 1];
+                fill(sorted, 0, 1);
+            }
+            
+            /**
+             * Fills the subtree rooted at node k by an in-order traversal, which visits the
+             * nodes in the same order as the sorted array.
+             * 
+             * @param sorted The sorted array
+             * @param next The next index of the sorted array to place
+             * @param k The node to fill
+             * @return The next index of the sorted array after the subtree
+             */
+            private int fill(int[] sorted, int next, int k) {
+                if (k <= size) {
+                    next = fill(sorted, next, 2 * k);
+                    values[k] = sorted[next];
+                    sortedIndices[k] = next;
+                    next++;
+                    next = fill(sorted, next, 2 * k + 1);
+                }
+                return next;
+            }
+            
+            /**
+             * Searches the layout for a target value.
+             * 
+             * @param target The value to search for
+             * @return The index in the sorted array of the first occurrence of the target if found, -1 otherwise
+             */
+            public int search(int target) {
+                int k = 1;
+                int touched = 0;
+                while (k <= size) {
+                    // Load the node four levels down early; its sixteen descendants share a
+                    // cache line or two, so the fetch overlaps the next four comparisons
+                    touched ^= values[(int) Math.min(16L * k, size)];
+                    k = 2 * k + (values[k] < target ? 1 : 0);
+                }
+                prefetchSink = touched;
+                
+                // Undo the right turns taken after the last left turn, which leads to the lower bound
+                k >>= Integer.numberOfTrailingZeros(~k) + 1;
+                return k != 0 && values[k] == target ? sortedIndices[k] : -1;
+            }
+            
+            /**
+             * Gets the number of elements in the layout.
+             * 
+             * @return The number of elements
+             */
+            public int size() {
+                return size;
+            }
+            
+            /**
+             * Gets the memory used by the layout arrays.
+             * 
+             * @return The size of the layout in bytes
+             */
+            public long sizeInBytes() {
+                return 2L * (size + 1) * Integer.BYTES;
+            }
+        }
+    }
+    
+    /**
+     * Sorted Merge Search implementation for batches of queries.
+     * Note: The array must be sorted for Sorted Merge Search to work correctly.
+     */
+    public static class SortedMergeSearch implements SearchAlgorithm {
+        private final PrimitiveSortingAlgorithms.IndexSort indexSort = new PrimitiveSortingAlgorithms.IndexSort();
+        
+        /**
+         * Searches for a single target value with a Binary Search for its lower bound.
+         * 
+         * @param arr The sorted array to search in
+         * @param target The value to search for
+         * @return The index of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            int index = lowerBound(arr, 0, arr.length, target);
+            return index < arr.length && arr[index] == target ? index : -1;
+        }
+        
+        /**
+         * Searches for many target values by visiting them in sorted order and merging them
+         * with the array. Each query resumes from the previous query's position and gallops
+         * forward, so a dense batch reads the array sequentially and a sparse batch still
+         * costs only O(log gap) per query.
+         * 
+         * @param haystack The sorted array to search in
+         * @param queries The values to search for
+         * @param out Receives, for each query, the index of its first occurrence, or -1 if it is absent
+         */
+        @Override
+        public void searchAll(int[] haystack, int[] queries, int[] out) {
+            checkBatch(queries, out);
+            
+            int n = haystack.length;
+            int position = 0;
+            
+            for (int query : indexSort.sortedOrder(queries)) {
+                int target = queries[query];
+                
+                // Gallop: double the step until an element >= target is passed
+                int low = position;
+                int high = position;
+                long step = 1;
+                while (high < n && haystack[high] < target) {
+                    low = high + 1;
+                    high = (int) Math.min(position + step, n);
+                    step <<= 1;
+                }
+                
+                position = lowerBound(haystack, low, high, target);
+                out[query] = position < n && haystack[position] == target ? position : -1;
+            }
+        }
+        
+        @Override
+        public boolean requiresSortedInput() {
+            return true;
+        }
+        
+        @Override
+        public String getName() {
+            return "Sorted Merge Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A batch search that sorts the queries with an index radix sort and merges them with the sorted array, galloping forward from each query's position to the next, so dense batches stream through the array once.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(q + q log(n / q)) for q queries, O(log n) for one";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(q)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Interleaved Binary Search implementation for batches of queries.
+     * Note: The array must be sorted for Binary Search to work correctly.
+     */
+    public static class InterleavedBinarySearch implements SearchAlgorithm {
+        
+        /**
+         * Searches for a single target value with a Binary Search for its lower bound.
+         * 
+         * @param arr The sorted array to search in
+         * @param target The value to search for
+         * @return The index of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            int index = lowerBound(arr, 0, arr.length, target);
+            return index < arr.length && arr[index] == target ? index : -1;
+        }
+        
+        /**
+         * Searches for many target values by advancing groups of branchless binary searches
+         * in lockstep. All searches in a group halve the same range length at every step, and
+         * their loads are independent of each other, so the CPU keeps several cache misses in
+         * flight instead of waiting for one at a time.
+         * 
+         * @param haystack The sorted array to search in
+         * @param queries The values to search for
+         * @param out Receives, for each query, the index of its first occurrence, or -1 if it is absent
+         */
+        @Override
+        public void searchAll(int[] haystack, int[] queries, int[] out) {
+            checkBatch(queries, out);
+            
+            int n = haystack.length;
+            if (n == 0) {
+                Arrays.fill(out, 0, queries.length, -1);
+                return;
+            }
+            
+            int[] bases = new int[INTERLEAVED_LANES];
+            
+            for (int start = 0; start < queries.length; start += INTERLEAVED_LANES) {
+                int lanes = Math.min(INTERLEAVED_LANES, queries.length - start);
+                Arrays.fill(bases, 0);
+                
+                int length = n;
+                while (length > 1) {
+                    int half = length >>> 1;
+                    for (int lane = 0; lane < lanes; lane++) {
+                        int base = bases[lane];
+                        
+                        // Advance by half exactly when the midpoint is below the target, without a branch
+                        bases[lane] = base + (half & (int) (((long) haystack[base + half] - queries[start + lane]) >> 63));
+                    }
+                    length -= half;
+                }
+                
+                for (int lane = 0; lane < lanes; lane++) {
+                    int target = queries[start + lane];
+                    int index = bases[lane] + (haystack[bases[lane]] < target ? 1 : 0);
+                    out[start + lane] = index < n && haystack[index] == target ? index : -1;
+                }
+            }
+        }
+        
+        @Override
+        public boolean requiresSortedInput() {
+            return true;
+        }
+        
+        @Override
+        public String getName() {
+            return "Interleaved Binary Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A batch search that runs sixteen branchless binary searches in lockstep, so their independent memory accesses overlap and the latency of each cache miss is shared across the group.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(q log n) for q queries";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(1)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Interpolation Search implementation.
+     * Note: The array must be sorted for Interpolation Search to work correctly.
+     */
+    public static class InterpolationSearch implements SearchAlgorithm, InstrumentedAlgorithm {
+        private int lastProbes;
+        private int lastBisections;
+        private int lastLength;
+        
+        /**
+         * Searches for a target value in a sorted array using Interpolation Search.
+         * Each probe estimates the target's position from the values at the ends of the range.
+         * Whenever an estimate fails to at least halve the range, the next probe bisects it
+         * instead, so skewed distributions cost at most about twice as many probes as Binary Search.
+         * 
+         * @param arr The sorted array to search in
+         * @param target The value to search for
+         * @return The index of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            int low = 0;
+            int high = arr.length - 1;
+            int probes = 0;
+            int bisections = 0;
+            boolean bisect = false;
+            int result = -1;
+            
+            while (low <= high && target >= arr[low] && target <= arr[high]) {
+                int position;
+                if (bisect || arr[high] == arr[low]) {
+                    position = low + (high - low) / 2;
+                    bisections++;
+                } else {
+                    // Estimate in floating point; the exact product could overflow a long
+                    double fraction = ((double) target - arr[low]) / ((double) arr[high] - arr[low]);
+                    position = low + (int) (fraction * (high - low));
+                }
+                probes++;
+                
+                int oldLength = high - low + 1;
+                if (arr[position] == target) {
+                    result = position;
+                    break;
+                } else if (arr[position] < target) {
+                    low = position + 1;
+                } else {
+                    high = position - 1;
+                }
+                
+                bisect = !bisect && high - low + 1 > oldLength / 2;
+            }
+            
+            lastProbes = probes;
+            lastBisections = bisections;
+            lastLength = arr.length;
+            return result;
+        }
+        
+        /**
+         * Gets the details of the most recent search: the number of probes, how many of them
+         * fell back to bisection, and the worst-case probe count of Binary Search for comparison.
+         * 
+         * @return The details of the most recent search
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            Map<String, String> details = new LinkedHashMap<>();
+            details.put("Probes", String.valueOf(lastProbes));
+            details.put("Bisection probes", String.valueOf(lastBisections));
+            details.put("Binary search probes (worst case)", String.valueOf(binarySearchProbes(lastLength)));
+            return details;
+        }
+        
+        @Override
+        public boolean requiresSortedInput() {
+            return true;
+        }
+        
+        @Override
+        public String getName() {
+            return "Interpolation Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Probes where the target should be if values were spread evenly between the ends of the range, reaching O(log log n) probes on uniform keys; falls back to bisection whenever an estimate fails to halve the range.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(log log n) on uniform keys, O(log n) worst case";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(1)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Exponential (galloping) Search implementation.
+     * Note: The array must be sorted for Exponential Search to work correctly.
+     */
+    public static class ExponentialSearch implements SearchAlgorithm, InstrumentedAlgorithm {
+        private int lastProbes;
+        private int lastLength;
+        
+        /**
+         * Searches for a target value in a sorted array using Exponential Search.
+         * 
+         * @param arr The sorted array to search in
+         * @param target The value to search for
+         * @return The index of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            int index = gallop(arr, 0, target);
+            lastLength = arr.length;
+            return index < arr.length && arr[index] == target ? index : -1;
+        }
+        
+        /**
+         * Finds the lower bound of a target at or after a starting position by galloping:
+         * probing at distances 1, 2, 4, ... from the start until an element not less than the
+         * target is passed, then bisecting the last gap. The cost depends only on the distance
+         * to the answer, not on the length of the array, which suits merges and sorted streams.
+         * 
+         * @param arr The sorted array
+         * @param from The position to start from
+         * @param target The value to search for
+         * @return The first index at or after from whose element is not less than the target, or arr.length
+         */
+        public int gallop(int[] arr, int from, int target) {
+            int n = arr.length;
+            int probes = 0;
+            int low = from;
+            int high = from;
+            long step = 1;
+            
+            while (high < n) {
+                probes++;
+                if (arr[high] >= target) {
+                    break;
+                }
+                low = high + 1;
+                high = (int) Math.min(from + step, n);
+                step <<= 1;
+            }
+            
+            // The lower bound lies in [low, high]
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                probes++;
+                if (arr[mid] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            
+            lastProbes = probes;
+            return low;
+        }
+        
+        /**
+         * Gets the details of the most recent search: the number of probes and the
+         * worst-case probe count of Binary Search for comparison.
+         * 
+         * @return The details of the most recent search
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            Map<String, String> details = new LinkedHashMap<>();
+            details.put("Probes", String.valueOf(lastProbes));
+            details.put("Binary search probes (worst case)", String.valueOf(binarySearchProbes(lastLength)));
+            return details;
+        }
+        
+        @Override
+        public boolean requiresSortedInput() {
+            return true;
+        }
+        
+        @Override
+        public String getName() {
+            return "Exponential Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Gallops from the start of the array with doubling steps until it passes the target, then bisects the last gap; finds elements at index i in O(log i) probes, so it works on unbounded or streaming sorted sources.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(log i) for a target at index i";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(1)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Block Linear Search implementation.
+     */
+    public static class BlockLinearSearch implements SearchAlgorithm {
+        
+        /**
+         * Searches for a target value in an array a block at a time. Within a block, every
+         * element is compared without branching and the results are combined with OR, a loop
+         * shape the JIT compiles to SIMD instructions; only a block that contains a match is
+         * scanned again element by element to find the first index.
+         * 
+         * @param arr The array to search in
+         * @param target The value to search for
+         * @return The index of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            return scanRange(arr, 0, arr.length, target);
+        }
+        
+        @Override
+        public String getName() {
+            return "Block Linear Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A Linear Search that tests blocks of " + SCAN_BLOCK_SIZE + " elements with branch-free comparisons combined by OR, which the JIT vectorizes, and only rescans the block that contains a match.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(1)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Parallel Linear Search implementation using the fork/join framework.
+     */
+    public static class ParallelLinearSearch implements SearchAlgorithm, InstrumentedAlgorithm, ParallelAlgorithm {
+        
+        /** Arrays are not split into chunks smaller than this. */
+        private static final int MIN_CHUNK_SIZE = 1 << 16;
+        
+        /** Number of elements a worker scans between checks for an earlier match. */
+        private static final int SLICE_SIZE = 1 << 14;
+        
+        private final int parallelism;
+        private final WorkerPool pool;
+        private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+        
+        /**
+         * Constructs a parallel linear search using all available processors.
+         */
+        public ParallelLinearSearch() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs a parallel linear search with the specified number of threads.
+         * 
+         * @param parallelism The number of worker threads
+         */
+        public ParallelLinearSearch(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            this.pool = new WorkerPool(parallelism);
+        }
+        
+        /**
+         * Searches for a target value by splitting the array into one chunk per thread.
+         * Workers scan their chunk in slices with the block scan of Block Linear Search and
+         * publish matches as a shared minimum. Before each slice a worker checks that minimum
+         * and stops once a match at or before the slice is known, so the first match cancels
+         * all work after it while the earlier chunks finish, keeping first-index semantics.
+         * 
+         * @param arr The array to search in
+         * @param target The value to search for
+         * @return The index of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            int n = arr.length;
+            int chunks = Math.max(1, Math.min(parallelism, n / MIN_CHUNK_SIZE));
+            int chunkSize = (n + chunks - 1) / chunks;
+            AtomicInteger firstMatch = new AtomicInteger(Integer.MAX_VALUE);
+            LongAdder scanned = new LongAdder();
+            
+            Runnable[] workers = new Runnable[chunks];
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int chunkFrom = chunk * chunkSize;
+                int chunkTo = Math.min(chunkFrom + chunkSize, n);
+                workers[chunk] = () -> {
+                    for (int slice = chunkFrom; slice < chunkTo; slice += SLICE_SIZE) {
+                        // An earlier match makes the rest of this chunk irrelevant
+                        if (firstMatch.get() <= slice) {
+                            return;
+                        }
+                        int sliceTo = Math.min(slice + SLICE_SIZE, chunkTo);
+                        int index = scanRange(arr, slice, sliceTo, target);
+                        scanned.add(index >= 0 ? index - slice + 1 : sliceTo - slice);
+                        if (index >= 0) {
+                            firstMatch.accumulateAndGet(index, Math::min);
+                            return;
+                        }
+                    }
+                };
+            }
+            
+            if (chunks == 1) {
+                workers[0].run();
+            } else {
+                ForkJoinPool threads = pool.get();
+                ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks];
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    tasks[chunk] = threads.submit(workers[chunk]);
+                }
+                for (ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            }
+            
+            Map<String, String> details = new LinkedHashMap<>();
+            details.put("Chunks", String.valueOf(chunks));
+            details.put("Elements scanned", String.valueOf(scanned.sum()));
+            lastRunDetails = details;
+            
+            int result = firstMatch.get();
+            return result == Integer.MAX_VALUE ? -1 : result;
+        }
+        
+        @Override
+        public void close() {
+            pool.shutdown();
+        }
+        
+        /**
+         * Gets the details of the most recent search: the number of chunks and the total
+         * number of elements the workers compared before finishing or being cancelled.
+         * 
+         * @return The details of the most recent search
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            return Collections.unmodifiableMap(lastRunDetails);
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The parallelism
+         */
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+        
+        @Override
+        public String getName() {
+            return "Parallel Linear Search (" + parallelism + (parallelism == 1 ? " thread)" : " threads)");
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Splits the array across fork/join workers that scan slices with the block scan and share the lowest match found so far, so work after the first match is cancelled while the result stays the first index.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n / p) on p threads";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(p)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Static B-Tree Search implementation (S-tree).
+     * Note: The array must be sorted for Static B-Tree Search to work correctly.
+     */
+    public static class StaticBTreeSearch implements SearchAlgorithm, InstrumentedAlgorithm {
+        private int[] cachedSource;
+        private StaticBTree cachedTree;
+        private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+        
+        /**
+         * Searches for a target value in a sorted array through its static B-tree.
+         * The tree is built on the first search of an array and reused for as long as the
+         * same array instance is searched, so the array must not be modified in between.
+         * 
+         * @param arr The sorted array to search in
+         * @param target The value to search for
+         * @return The index in arr of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            return treeFor(arr).search(target);
+        }
+        
+        /**
+         * Gets the static B-tree of a sorted array, building it unless it is already cached.
+         * 
+         * @param arr The sorted array
+         * @return The tree of the array
+         */
+        public StaticBTree treeFor(int[] arr) {
+            if (arr != cachedSource) {
+                long startTime = System.nanoTime();
+                cachedTree = new StaticBTree(arr);
+                double buildTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+                cachedSource = arr;
+                
+                Map<String, String> details = new LinkedHashMap<>();
+                details.put("Tree build (ms)", String.format("%.3f", buildTimeMs));
+                details.put("Tree size (KB)", String.valueOf(cachedTree.sizeInBytes() / 1024));
+                details.put("Tree height", String.valueOf(cachedTree.height()));
+                lastRunDetails = details;
+            }
+            return cachedTree;
+        }
+        
+        @Override
+        public boolean buildsIndex() {
+            return true;
+        }
+        
+        @Override
+        public void prepare(int[] arr) {
+            cachedSource = null;
+            treeFor(arr);
+        }
+        
+        /**
+         * Gets the details of the most recent tree build: its time, memory footprint and height.
+         * 
+         * @return The details of the most recent tree build
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            return Collections.unmodifiableMap(lastRunDetails);
+        }
+        
+        @Override
+        public boolean requiresSortedInput() {
+            return true;
+        }
+        
+        @Override
+        public String getName() {
+            return "Static B-Tree Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Packs the sorted array into a static B-tree of " + StaticBTree.KEYS_PER_NODE + "-key nodes, one 64-byte cache line each, laid out so a node's children are found by arithmetic; each level costs one cache miss and a branch-free count over the node's keys.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(log n) per query with log base " + (StaticBTree.KEYS_PER_NODE + 1) + " cache misses, O(n) once to build the tree";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n) for the tree";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+        
+        /**
+         * A sorted array packed into a static B-tree, reusable across any number of queries.
+         * Node k holds the keys at [16k, 16k + 16) and its children are the nodes
+         * 17k + 1 to 17k + 17, so no child pointers are stored. Slots past the end of the
+         * array are padded with Integer.MAX_VALUE.
+         */
+        public static final class StaticBTree {
+            
+            /** Number of keys per node: sixteen ints fill one 64-byte cache line. */
+            public static final int KEYS_PER_NODE = 16;
+            
+            private final int size;
+            private final int nodes;
+            private final int[] keys;
+            private final int[] sortedIndices;
+            
+            /**
+             * Builds the tree of a sorted array.
+             * 
+             * @param sorted The array, sorted in ascending order
+             */
+            public StaticBTree(int[] sorted) {
+                size = sorted.length;
+                nodes = (size + KEYS_PER_NODE - 1) / KEYS_PER_NODE;
+                keys = new int[nodes * KEYS_PER_NODE];
+                sortedIndices = new int[nodes * KEYS_PER_NODE];
+                fill(sorted, 0, 0);
+            }
+            
+            /**
+             * Fills the subtree rooted at node k by an in-order traversal, which visits the
+             * keys in the same order as the sorted array.
+             * 
+             * @param sorted The sorted array
+             * @param next The next index of the sorted array to place
+             * @param k The node to fill
+             * @return The next index of the sorted array after the subtree
+             */
+            private int fill(int[] sorted, int next, int k) {
+                if (k < nodes) {
+                    for (int i = 0; i < KEYS_PER_NODE; i++) {
+                        next = fill(sorted, next, child(k, i));
+                        int slot = k * KEYS_PER_NODE + i;
+                        keys[slot] = next < size ? sorted[next] : Integer.MAX_VALUE;
+                        sortedIndices[slot] = next;
+                        next++;
+                    }
+                    next = fill(sorted, next, child(k, KEYS_PER_NODE));
+                }
+                return next;
+            }
+            
+            /**
+             * Computes the index of the i-th child of a node.
+             * 
+             * @param k The node
+             * @param i The child, between 0 and KEYS_PER_NODE
+             * @return The index of the child node
+             */
+            private static int child(int k, int i) {
+                return k * (KEYS_PER_NODE + 1) + i + 1;
+            }
+            
+            /**
+             * Searches the tree for a target value. In every node, the keys less than the
+             * target are counted with a fixed-length branch-free loop that the JIT can
+             * vectorize; the count is the child to descend into, and the key at that
+             * position, if any, is the best lower-bound candidate so far.
+             * 
+             * @param target The value to search for
+             * @return The index in the sorted array of the first occurrence of the target if found, -1 otherwise
+             */
+            public int search(int target) {
+                int candidate = -1;
+                int k = 0;
+                while (k < nodes) {
+                    int base = k * KEYS_PER_NODE;
+                    int rank = 0;
+                    for (int i = base; i < base + KEYS_PER_NODE; i++) {
+                        rank += (int) (((long) keys[i] - target) >>> 63);
+                    }
+                    if (rank < KEYS_PER_NODE) {
+                        candidate = base + rank;
+                    }
+                    k = child(k, rank);
+                }
+                
+                // Padding slots map to indices at or past the end of the array
+                if (candidate >= 0 && keys[candidate] == target && sortedIndices[candidate] < size) {
+                    return sortedIndices[candidate];
+                }
+                return -1;
+            }
+            
+            /**
+             * Gets the number of elements in the tree.
+             * 
+             * @return The number of elements
+             */
+            public int size() {
+                return size;
+            }
+            
+            /**
+             * Gets the number of levels of the tree.
+             * 
+             * @return The height of the tree
+             */
+            public int height() {
+                int height = 0;
+                for (int k = 0; k < nodes; k = child(k, 0)) {
+                    height++;
+                }
+                return height;
+            }
+            
+            /**
+             * Gets the memory used by the tree arrays.
+             * 
+             * @return The size of the tree in bytes
+             */
+            public long sizeInBytes() {
+                return 2L * keys.length * Integer.BYTES;
+            }
+        }
+    }
+    
+    /**
+     * Hash Index Search implementation for point lookups in unsorted arrays.
+     */
+    public static class HashIndexSearch implements SearchAlgorithm, InstrumentedAlgorithm {
+        private final boolean withBloomFilter;
+        private int[] cachedSource;
+        private HashIndex cachedIndex;
+        private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+        
+        /**
+         * Constructs a hash index search without a Bloom filter.
+         */
+        public HashIndexSearch() {
+            this(false);
+        }
+        
+        /**
+         * Constructs a hash index search.
+         * 
+         * @param withBloomFilter Whether lookups consult a Bloom filter before the table,
+         *                        which makes most lookups of absent values cheaper
+         */
+        public HashIndexSearch(boolean withBloomFilter) {
+            this.withBloomFilter = withBloomFilter;
+        }
+        
+        /**
+         * Searches for a target value through a hash index of the array.
+         * The index is built on the first search of an array and reused for as long as the
+         * same array instance is searched, so the array must not be modified in between.
+         * 
+         * @param arr The array to search in
+         * @param target The value to search for
+         * @return The index of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            return indexFor(arr).get(target);
+        }
+        
+        /**
+         * Gets the hash index of an array, building it unless it is already cached.
+         * 
+         * @param arr The array
+         * @return The index of the array
+         */
+        public HashIndex indexFor(int[] arr) {
+            if (arr != cachedSource) {
+                long startTime = System.nanoTime();
+                cachedIndex = new HashIndex(arr, withBloomFilter);
+                double buildTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+                cachedSource = arr;
+                
+                Map<String, String> details = new LinkedHashMap<>();
+                details.put("Index build (ms)", String.format("%.3f", buildTimeMs));
+                details.put("Index size (KB)", String.valueOf(cachedIndex.sizeInBytes() / 1024));
+                details.put("Load factor", String.format("%.2f", cachedIndex.loadFactor()));
+                details.put("Longest probe", String.valueOf(cachedIndex.longestProbe()));
+                lastRunDetails = details;
+            }
+            return cachedIndex;
+        }
+        
+        @Override
+        public boolean buildsIndex() {
+            return true;
+        }
+        
+        @Override
+        public void prepare(int[] arr) {
+            cachedSource = null;
+            indexFor(arr);
+        }
+        
+        /**
+         * Gets the details of the most recent index build: its time, memory footprint,
+         * load factor and longest probe sequence.
+         * 
+         * @return The details of the most recent index build
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            return Collections.unmodifiableMap(lastRunDetails);
+        }
+        
+        @Override
+        public String getName() {
+            return withBloomFilter ? "Hash Index Search (Bloom filter)" : "Hash Index Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            String description = "Maps each distinct value to its first index in an open-addressing table of primitive ints with Robin Hood linear probing, which keeps probe sequences short and lets lookups of absent values stop early.";
+            if (withBloomFilter) {
+                description += " A Bloom filter in front of the table rejects most absent values without touching it.";
+            }
+            return description;
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(1) expected per query, O(n) once to build the index";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n) for the index";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+        
+        /**
+         * An int-to-int hash table from the distinct values of an array to their first index,
+         * with an optional Bloom filter. Keys and values are kept in parallel int arrays;
+         * an empty slot has the value -1, since indices are never negative.
+         */
+        public static final class HashIndex {
+            
+            /** Maximum fraction of the table slots in use. */
+            private static final double MAX_LOAD_FACTOR = 0.7;
+            
+            /** Largest table size, the largest power of two that an int array can hold. */
+            private static final int MAX_CAPACITY = 1 << 30;
+            
+            /** Bloom filter bits per distinct key, giving a false positive rate near 1%. */
+            private static final int BLOOM_BITS_PER_KEY = 10;
+            
+            /** Number of Bloom filter bits tested per key, optimal for 10 bits per key. */
+            private static final int BLOOM_HASHES = 7;
+            
+            private final int[] keys;
+            private final int[] values;
+            private final int mask;
+            private final long[] bloomBits;
+            private final long bloomSize;
+            private int count;
+            private int longestProbe;
+            
+            /**
+             * Builds the index of an array.
+             * 
+             * @param arr The array
+             * @param withBloomFilter Whether to build a Bloom filter in front of the table
+             * @throws IllegalArgumentException If the array is too large for a table of at most 2^30 slots
+             */
+            public HashIndex(int[] arr, boolean withBloomFilter) {
+                int capacity = capacityFor(arr.length);
+                keys = new int[capacity];
+                values = new int[capacity];
+                Arrays.fill(values, -1);
+                mask = capacity - 1;
+                
+                // Inserting in index order keeps the first index of duplicated values
+                for (int i = 0; i < arr.length; i++) {
+                    insert(arr[i], i);
+                }
+                
+                if (withBloomFilter) {
+                    bloomSize = Math.max(Long.SIZE, (long) count * BLOOM_BITS_PER_KEY);
+                    bloomBits = new long[(int) ((bloomSize + Long.SIZE - 1) / Long.SIZE)];
+                    for (int slot = 0; slot < capacity; slot++) {
+                        if (values[slot] >= 0) {
+                            addToBloomFilter(keys[slot]);
+                        }
+                    }
+                } else {
+                    bloomSize = 0;
+                    bloomBits = null;
+                }
+            }
+            
+            /**
+             * Computes the table size for an array: the smallest power of two that keeps the
+             * load factor at most MAX_LOAD_FACTOR even if every element is distinct.
+             * 
+             * @param size The number of elements in the array
+             * @return The number of table slots
+             * @throws IllegalArgumentException If the table would need more than 2^30 slots
+             */
+            private static int capacityFor(int size) {
+                long slots = Math.max(2, (long) Math.ceil(size / MAX_LOAD_FACTOR));
+                if (slots > MAX_CAPACITY) {
+                    throw new IllegalArgumentException("Hash index of " + size + " elements needs " + slots
+                            + " slots at load factor " + MAX_LOAD_FACTOR + ", more than the limit of 2^30 (" + MAX_CAPACITY + ") slots");
+                }
+                return (int) (Long.highestOneBit(slots - 1) << 1);
+            }
+            
+            /**
+             * Computes the home slot of a key with Fibonacci hashing.
+             * 
+             * @param key The key
+             * @return The slot where the key's probe sequence starts
+             */
+            private int home(int key) {
+                int hash = key * 0x9E3779B9;
+                return (hash ^ (hash >>> 16)) & mask;
+            }
+            
+            /**
+             * Computes how far the key in a slot is from its home slot.
+             * 
+             * @param slot The slot, which must be in use
+             * @return The probe distance of its key
+             */
+            private int distance(int slot) {
+                return (slot - home(keys[slot])) & mask;
+            }
+            
+            /**
+             * Inserts a key unless it is already present. A key that has probed further than
+             * the key in a slot takes the slot, and the displaced key continues probing, so
+             * probe distances stay balanced across keys.
+             * 
+             * @param key The key
+             * @param value The value for the key
+             */
+            private void insert(int key, int value) {
+                int slot = home(key);
+                int dist = 0;
+                
+                while (values[slot] >= 0) {
+                    if (keys[slot] == key) {
+                        return;
+                    }
+                    
+                    int existing = distance(slot);
+                    if (existing < dist) {
+                        int displacedKey = keys[slot];
+                        int displacedValue = values[slot];
+                        keys[slot] = key;
+                        values[slot] = value;
+                        longestProbe = Math.max(longestProbe, dist);
+                        key = displacedKey;
+                        value = displacedValue;
+                        dist = existing;
+                    }
+                    
+                    slot = (slot + 1) & mask;
+                    dist++;
+                }
+                
+                keys[slot] = key;
+                values[slot] = value;
+                longestProbe = Math.max(longestProbe, dist);
+                count++;
+            }
+            
+            /**
+             * Looks up a key. Probing stops at an empty slot or at a key closer to its home
+             * than the probe so far, since Robin Hood insertion would have placed the key
+             * before it.
+             * 
+             * @param key The key
+             * @return The first index of the key in the array, or -1 if it is absent
+             */
+            public int get(int key) {
+                if (bloomBits != null && !mightContain(key)) {
+                    return -1;
+                }
+                
+                int slot = home(key);
+                for (int dist = 0; dist <= longestProbe; dist++) {
+                    int value = values[slot];
+                    if (value < 0) {
+                        return -1;
+                    }
+                    if (keys[slot] == key) {
+                        return value;
+                    }
+                    if (distance(slot) < dist) {
+                        return -1;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                return -1;
+            }
+            
+            /**
+             * Mixes a key into 64 bits from which the Bloom filter positions are derived.
+             * 
+             * @param key The key
+             * @return The mixed hash
+             */
+            private static long bloomHash(int key) {
+                long hash = key * 0x9E3779B97F4A7C15L;
+                hash ^= hash >>> 32;
+                hash *= 0xD6E8FEB86659FD93L;
+                return hash ^ (hash >>> 32);
+            }
+            
+            /**
+             * Computes the i-th Bloom filter position by double hashing, mapping the 32-bit
+             * combined hash onto the filter with a multiply and shift instead of a division.
+             * 
+             * @param hash The mixed hash of the key
+             * @param i The hash function number
+             * @return The bit position
+             */
+            private long bloomPosition(long hash, int i) {
+                int combined = (int) hash + i * ((int) (hash >>> 32) | 1);
+                return (Integer.toUnsignedLong(combined) * bloomSize) >>> 32;
+            }
+            
+            /**
+             * Adds a key to the Bloom filter.
+             * 
+             * @param key The key
+             */
+            private void addToBloomFilter(int key) {
+                long hash = bloomHash(key);
+                for (int i = 0; i < BLOOM_HASHES; i++) {
+                    long position = bloomPosition(hash, i);
+                    bloomBits[(int) (position >>> 6)] |= 1L << position;
+                }
+            }
+            
+            /**
+             * Checks the Bloom filter for a key.
+             * 
+             * @param key The key
+             * @return false if the key is certainly absent, true if it may be present
+             */
+            private boolean mightContain(int key) {
+                long hash = bloomHash(key);
+                for (int i = 0; i < BLOOM_HASHES; i++) {
+                    long position = bloomPosition(hash, i);
+                    if ((bloomBits[(int) (position >>> 6)] & (1L << position)) == 0) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            
+            /**
+             * Gets the number of distinct keys in the index.
+             * 
+             * @return The number of keys
+             */
+            public int size() {
+                return count;
+            }
+            
+            /**
+             * Gets the fraction of the table slots in use.
+             * 
+             * @return The load factor
+             */
+            public double loadFactor() {
+                return (double) count / keys.length;
+            }
+            
+            /**
+             * Gets the longest distance any key was placed from its home slot.
+             * 
+             * @return The longest probe distance
+             */
+            public int longestProbe() {
+                return longestProbe;
+            }
+            
+            /**
+             * Gets the memory used by the table and the Bloom filter.
+             * 
+             * @return The size of the index in bytes
+             */
+            public long sizeInBytes() {
+                long bytes = 2L * keys.length * Integer.BYTES;
+                if (bloomBits != null) {
+                    bytes += (long) bloomBits.length * Long.BYTES;
+                }
+                return bytes;
+            }
+        }
+    }
+    
+    /**
+     * Learned Index Search implementation using a piecewise linear model (PGM index).
+     * Note: The array must be sorted for Learned Index Search to work correctly.
+     */
+    public static class LearnedIndexSearch implements SearchAlgorithm, InstrumentedAlgorithm {
+        
+        /** Default maximum distance between a predicted and an actual position. */
+        public static final int DEFAULT_ERROR_BOUND = 32;
+        
+        private final int errorBound;
+        private int[] cachedSource;
+        private PiecewiseLinearModel cachedModel;
+        private double lastBuildTimeMs;
+        private long searches;
+        private long probes;
+        
+        /**
+         * Constructs a learned index search with the default error bound.
+         */
+        public LearnedIndexSearch() {
+            this(DEFAULT_ERROR_BOUND);
+        }
+        
+        /**
+         * Constructs a learned index search.
+         * 
+         * @param errorBound The maximum distance between the position the model predicts
+         *                   for a key and its actual position; smaller bounds need more segments
+         */
+        public LearnedIndexSearch(int errorBound) {
+            if (errorBound < 1) {
+                throw new IllegalArgumentException("Error bound must be at least 1: " + errorBound);
+            }
+            this.errorBound = errorBound;
+        }
+        
+        /**
+         * Searches for a target value in a sorted array through a piecewise linear model of it.
+         * The model is built on the first search of an array and reused for as long as the
+         * same array instance is searched, so the array must not be modified in between.
+         * 
+         * @param arr The sorted array to search in
+         * @param target The value to search for
+         * @return The index of the first occurrence of the target if found, -1 otherwise
+         */
+        @Override
+        public int search(int[] arr, int target) {
+            PiecewiseLinearModel model = modelFor(arr);
+            int result = model.search(arr, target);
+            searches++;
+            probes += model.lastProbes;
+            return result;
+        }
+        
+        /**
+         * Gets the model of a sorted array, building it unless it is already cached.
+         * 
+         * @param arr The sorted array
+         * @return The model of the array
+         */
+        public PiecewiseLinearModel modelFor(int[] arr) {
+            if (arr != cachedSource) {
+                long startTime = System.nanoTime();
+                cachedModel = new PiecewiseLinearModel(arr, errorBound);
+                lastBuildTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+                cachedSource = arr;
+                searches = 0;
+                probes = 0;
+            }
+            return cachedModel;
+        }
+        
+        @Override
+        public boolean buildsIndex() {
+            return true;
+        }
+        
+        @Override
+        public void prepare(int[] arr) {
+            cachedSource = null;
+            modelFor(arr);
+        }
+        
+        /**
+         * Gets the details of the current model: its build time, number of segments and
+         * levels, memory footprint, and the average number of array and model entries read
+         * per search since it was built.
+         * 
+         * @return The details of the current model
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            Map<String, String> details = new LinkedHashMap<>();
+            if (cachedModel != null) {
+                details.put("Model build (ms)", String.format("%.3f", lastBuildTimeMs));
+                details.put("Segments", String.valueOf(cachedModel.segmentCount()));
+                details.put("Levels", String.valueOf(cachedModel.levelCount()));
+                details.put("Model size (KB)", String.format("%.1f", cachedModel.sizeInBytes() / 1024.0));
+                details.put("Average probes", String.format("%.1f", searches > 0 ? (double) probes / searches : 0));
+                details.put("Binary search probes (worst case)", String.valueOf(binarySearchProbes(cachedModel.size)));
+            }
+            return Collections.unmodifiableMap(details);
+        }
+        
+        /**
+         * Gets the error bound of the model.
+         * 
+         * @return The error bound
+         */
+        public int getErrorBound() {
+            return errorBound;
+        }
+        
+        @Override
+        public boolean requiresSortedInput() {
+            return true;
+        }
+        
+        @Override
+        public String getName() {
+            return "Learned Index Search (error bound " + errorBound + ")";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Fits line segments to the positions of the sorted keys so that every prediction is within the error bound, indexes the segments recursively the same way, and finishes each lookup with a binary search of the small window around the predicted position.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(log(error bound)) per level per query, O(n) once to fit the model";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(segments), which shrinks as the error bound grows";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+        
+        /**
+         * A recursive piecewise linear model of a sorted array. The bottom level maps keys to
+         * array positions; each level above maps keys to segments of the level below, up to a
+         * single root segment. A segment predicts position + slope * (key - first key), and
+         * the prediction for any key it covers is within the error bound of its position.
+         */
+        public static final class PiecewiseLinearModel {
+            
+            /** Error bound of the levels above the bottom, kept small since they are tiny. */
+            private static final int INNER_ERROR_BOUND = 4;
+            
+            private final int size;
+            private final int errorBound;
+            private final List<Level> levels = new ArrayList<>();
+            
+            /** Number of entries read by the most recent search. */
+            private int lastProbes;
+            
+            /**
+             * Fits the model of a sorted array.
+             * 
+             * @param sorted The array, sorted in ascending order
+             * @param errorBound The error bound of the bottom level
+             */
+            public PiecewiseLinearModel(int[] sorted, int errorBound) {
+                this.size = sorted.length;
+                this.errorBound = errorBound;
+                
+                // Fit the first occurrence of every distinct key, so hits find the first index
+                int[] keys = new int[size];
+                int[] positions = new int[size];
+                int distinct = 0;
+                for (int i = 0; i < size; i++) {
+                    if (i == 0 || sorted[i] != sorted[i - 1]) {
+                        keys[distinct] = sorted[i];
+                        positions[distinct] = i;
+                        distinct++;
+                    }
+                }
+                
+                Level level = new Level(keys, positions, distinct, errorBound, size);
+                levels.add(level);
+                while (level.count > 1) {
+                    int[] segmentPositions = new int[level.count];
+                    for (int i = 0; i < level.count; i++) {
+                        segmentPositions[i] = i;
+                    }
+                    level = new Level(level.firstKeys, segmentPositions, level.count, INNER_ERROR_BOUND, level.count);
+                    levels.add(level);
+                }
+            }
+            
+            /**
+             * Searches the model and the array for a target value.
+             * 
+             * @param sorted The array the model was fitted to
+             * @param target The value to search for
+             * @return The index of the first occurrence of the target if found, -1 otherwise
+             */
+            int search(int[] sorted, int target) {
+                Level top = levels.get(levels.size() - 1);
+                if (size == 0 || target < top.firstKeys[0]) {
+                    lastProbes = 0;
+                    return -1;
+                }
+                
+                int probes = 0;
+                int segment = 0;
+                for (int l = levels.size() - 1; l > 0; l--) {
+                    Level below = levels.get(l - 1);
+                    int predicted = levels.get(l).predict(segment, target);
+                    
+                    // Find the last segment of the level below whose first key is at most the target
+                    int low = Math.max(predicted - INNER_ERROR_BOUND - 1, 0);
+                    int high = Math.min(predicted + INNER_ERROR_BOUND + 2, below.count);
+                    while (low < high) {
+                        int mid = (low + high) >>> 1;
+                        probes++;
+                        if (below.firstKeys[mid] <= target) {
+                            low = mid + 1;
+                        } else {
+                            high = mid;
+                        }
+                    }
+                    segment = low - 1;
+                }
+                
+                int predicted = levels.get(0).predict(segment, target);
+                int low = Math.max(predicted - errorBound - 1, 0);
+                int high = Math.min(predicted + errorBound + 2, size);
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    probes++;
+                    if (sorted[mid] < target) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+                
+                lastProbes = probes + 1;
+                return low < size && sorted[low] == target ? low : -1;
+            }
+            
+            /**
+             * Gets the number of segments in the bottom level.
+             * 
+             * @return The number of segments
+             */
+            public int segmentCount() {
+                return levels.get(0).count;
+            }
+            
+            /**
+             * Gets the number of levels, including the root.
+             * 
+             * @return The number of levels
+             */
+            public int levelCount() {
+                return levels.size();
+            }
+            
+            /**
+             * Gets the memory used by the segments of all levels.
+             * 
+             * @return The size of the model in bytes
+             */
+            public long sizeInBytes() {
+                long bytes = 0;
+                for (Level level : levels) {
+                    bytes += (long) level.count * (2 * Integer.BYTES + Double.BYTES);
+                }
+                return bytes;
+            }
+        }
+        
+        /**
+         * One level of a piecewise linear model, its segments stored as parallel arrays.
+         */
+        private static final class Level {
+            private final int[] firstKeys;
+            private final int[] firstPositions;
+            private final double[] slopes;
+            private final int count;
+            private final int positionCount;
+            
+            /**
+             * Fits segments to points with the shrinking cone algorithm. Each segment starts at
+             * a point and keeps the range of slopes for which every point added so far is
+             * predicted within the error bound; a point that would empty the range starts the
+             * next segment. Slopes are kept non-negative so predictions never decrease.
+             * 
+             * @param keys The keys of the points, strictly ascending
+             * @param positions The positions of the points, ascending
+             * @param points The number of points
+             * @param errorBound The error bound
+             * @param positionCount The number of positions being predicted
+             */
+            Level(int[] keys, int[] positions, int points, int errorBound, int positionCount) {
+                int[] segmentKeys = new int[Math.max(points, 1)];
+                int[] segmentPositions = new int[Math.max(points, 1)];
+                double[] segmentSlopes = new double[Math.max(points, 1)];
+                int segments = 0;
+                
+                int i = 0;
+                while (i < points) {
+                    long startKey = keys[i];
+                    int startPosition = positions[i];
+                    double minSlope = 0;
+                    double maxSlope = Double.POSITIVE_INFINITY;
+                    
+                    int j = i + 1;
+                    for (; j < points; j++) {
+                        double dx = keys[j] - startKey;
+                        double dy = positions[j] - startPosition;
+                        double lower = Math.max(minSlope, (dy - errorBound) / dx);
+                        double upper = Math.min(maxSlope, (dy + errorBound) / dx);
+                        if (lower > upper) {
+                            break;
+                        }
+                        minSlope = lower;
+                        maxSlope = upper;
+                    }
+                    
+                    segmentKeys[segments] = (int) startKey;
+                    segmentPositions[segments] = startPosition;
+                    segmentSlopes[segments] = j == i + 1 ? 0 : (minSlope + maxSlope) / 2;
+                    segments++;
+                    i = j;
+                }
+                
+                this.firstKeys = Arrays.copyOf(segmentKeys, Math.max(segments, 1));
+                this.firstPositions = Arrays.copyOf(segmentPositions, Math.max(segments, 1));
+                this.slopes = Arrays.copyOf(segmentSlopes, Math.max(segments, 1));
+                this.count = segments;
+                this.positionCount = positionCount;
+            }
+            
+            /**
+             * Predicts the position of a key with a segment, clamped to the positions the
+             * segment covers so keys past its last point do not overshoot.
+             * 
+             * @param segment The segment covering the key
+             * @param key The key
+             * @return The predicted position
+             */
+            int predict(int segment, int key) {
+                int last = segment + 1 < count ? firstPositions[segment + 1] - 1 : positionCount - 1;
+                long predicted = firstPositions[segment] + (long) (slopes[segment] * ((double) key - firstKeys[segment]));
+                return (int) Math.max(firstPositions[segment], Math.min(predicted, last));
+            }
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package com.algorithmtracker.algorithm;
+
+/**
+ * Interface for selection algorithms, which find the k smallest elements of an array
+ * or its k-th smallest element without sorting the whole array.
+ */
+public interface SelectionAlgorithm extends Algorithm {
+    
+    /**
+     * Finds the k smallest elements of an array, leaving the original untouched.
+     * 
+     * @param arr The array to select from
+     * @param k The number of elements to select, between 0 and arr.length
+     * @return The k smallest elements, in no particular order
+     */
+    int[] smallest(int[] arr, int k);
+    
+    /**
+     * Finds the element that would be at index k if the array were sorted, leaving the original untouched.
+     * 
+     * @param arr The array to select from
+     * @param k The zero-based rank of the element, between 0 and arr.length - 1
+     * @return The k-th smallest element
+     */
+    int select(int[] arr, int k);
+}
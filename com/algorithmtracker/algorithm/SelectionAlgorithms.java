@@ -0,0 +1,554 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of selection algorithms.
+ * Includes Quickselect, Median of Medians, Floyd-Rivest, Heap Top-K, and a
+ * Full Sort + Slice baseline to compare them against.
+ */
+public class SelectionAlgorithms {
+    
+    /**
+     * Validates the number of elements requested from an array.
+     * 
+     * @param arr The array to select from
+     * @param k The number of elements to select
+     */
+    private static void checkCount(int[] arr, int k) {
+        if (k < 0 || k > arr.length) {
+            throw new IllegalArgumentException("Cannot select " + k + " elements from an array of length " + arr.length);
+        }
+    }
+    
+    /**
+     * Validates the rank of a requested element.
+     * 
+     * @param arr The array to select from
+     * @param k The zero-based rank
+     */
+    private static void checkRank(int[] arr, int k) {
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("Rank " + k + " is out of range for an array of length " + arr.length);
+        }
+    }
+    
+    /**
+     * Swaps two elements of an array.
+     * 
+     * @param arr The array
+     * @param i The first index
+     * @param j The second index
+     */
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    
+    /**
+     * Sorts a range of an array using insertion sort.
+     * 
+     * @param arr The array to be sorted
+     * @param from The starting index (inclusive)
+     * @param to The ending index (exclusive)
+     */
+    private static void insertionSort(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+    
+    /**
+     * Base class for selection algorithms that partition the array in place,
+     * in the manner of C++'s nth_element.
+     */
+    public abstract static class PartitionSelection implements SelectionAlgorithm {
+        
+        /**
+         * Rearranges arr[from, to) so that arr[k] holds the element that would be there if the
+         * range were sorted, with no larger element before it and no smaller element after it.
+         * 
+         * @param arr The array containing the range
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param k The index to fill, between from and to - 1
+         */
+        public abstract void selectInPlace(int[] arr, int from, int to, int k);
+        
+        @Override
+        public int[] smallest(int[] arr, int k) {
+            checkCount(arr, k);
+            if (k == 0) {
+                return new int[0];
+            }
+            
+            int[] copy = Arrays.copyOf(arr, arr.length);
+            selectInPlace(copy, 0, copy.length, k - 1);
+            return Arrays.copyOf(copy, k);
+        }
+        
+        @Override
+        public int select(int[] arr, int k) {
+            checkRank(arr, k);
+            
+            int[] copy = Arrays.copyOf(arr, arr.length);
+            selectInPlace(copy, 0, copy.length, k);
+            return copy[k];
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SELECTION;
+        }
+    }
+    
+    /**
+     * Quickselect implementation using Hoare's partition scheme.
+     */
+    public static class QuickSelect extends PartitionSelection {
+        
+        /**
+         * Selects the k-th element of a range using Hoare's quickselect with a median-of-three pivot.
+         * Only the side of each partition that contains k is processed further.
+         * 
+         * @param arr The array containing the range
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param k The index to fill, between from and to - 1
+         */
+        @Override
+        public void selectInPlace(int[] arr, int from, int to, int k) {
+            int low = from;
+            int high = to - 1;
+            
+            while (low < high) {
+                int mid = low + (high - low) / 2;
+                int pivot = medianOfThree(arr[low], arr[mid], arr[high]);
+                
+                int i = low;
+                int j = high;
+                while (i <= j) {
+                    while (arr[i] < pivot) {
+                        i++;
+                    }
+                    while (arr[j] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(arr, i, j);
+                        i++;
+                        j--;
+                    }
+                }
+                
+                // arr[low, j] <= pivot, arr[i, high] >= pivot, and anything in between equals the pivot
+                if (k <= j) {
+                    high = j;
+                } else if (k >= i) {
+                    low = i;
+                } else {
+                    return;
+                }
+            }
+        }
+        
+        /**
+         * Computes the median of three values.
+         * 
+         * @param a The first value
+         * @param b The second value
+         * @param c The third value
+         * @return The median value
+         */
+        private int medianOfThree(int a, int b, int c) {
+            return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+        }
+        
+        @Override
+        public String getName() {
+            return "Quickselect";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Hoare's selection algorithm: partitions around a median-of-three pivot like quicksort, but only continues into the side that contains the requested rank.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n) average, O(n²) worst case";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(1) beyond the copy";
+        }
+    }
+    
+    /**
+     * Median of Medians (BFPRT) selection implementation.
+     */
+    public static class MedianOfMedians extends PartitionSelection {
+        
+        /** Number of elements per group whose medians form the pivot candidates. */
+        private static final int GROUP_SIZE = 5;
+        
+        /**
+         * Selects the k-th element of a range using the median of medians pivot rule,
+         * which guarantees that every partition discards a constant fraction of the range.
+         * 
+         * @param arr The array containing the range
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param k The index to fill, between from and to - 1
+         */
+        @Override
+        public void selectInPlace(int[] arr, int from, int to, int k) {
+            while (to - from > GROUP_SIZE) {
+                int pivot = medianOfMedians(arr, from, to);
+                
+                // Three-way partition so runs of keys equal to the pivot are settled in one step
+                int lessEnd = from;
+                int greaterStart = to;
+                int i = from;
+                while (i < greaterStart) {
+                    if (arr[i] < pivot) {
+                        swap(arr, i++, lessEnd++);
+                    } else if (arr[i] > pivot) {
+                        swap(arr, i, --greaterStart);
+                    } else {
+                        i++;
+                    }
+                }
+                
+                if (k < lessEnd) {
+                    to = lessEnd;
+                } else if (k >= greaterStart) {
+                    from = greaterStart;
+                } else {
+                    return;
+                }
+            }
+            
+            insertionSort(arr, from, to);
+        }
+        
+        /**
+         * Computes the median of the medians of groups of five. The group medians are
+         * gathered at the front of the range and their median is selected recursively.
+         * 
+         * @param arr The array containing the range
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @return The pivot value
+         */
+        private int medianOfMedians(int[] arr, int from, int to) {
+            int medians = 0;
+            
+            for (int group = from; group < to; group += GROUP_SIZE) {
+                int groupEnd = Math.min(group + GROUP_SIZE, to);
+                insertionSort(arr, group, groupEnd);
+                swap(arr, from + medians, group + (groupEnd - group - 1) / 2);
+                medians++;
+            }
+            
+            int middle = from + (medians - 1) / 2;
+            selectInPlace(arr, from, from + medians, middle);
+            return arr[middle];
+        }
+        
+        @Override
+        public String getName() {
+            return "Median of Medians";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "The BFPRT selection algorithm: uses the median of the medians of groups of five as the pivot, which guarantees linear time in the worst case at the cost of a larger constant factor.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n) worst case";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(log n) beyond the copy";
+        }
+    }
+    
+    /**
+     * Floyd-Rivest selection implementation.
+     */
+    public static class FloydRivest extends PartitionSelection {
+        
+        /** Ranges larger than this are first narrowed by selecting within a sample. */
+        private static final int SAMPLE_THRESHOLD = 600;
+        
+        /**
+         * Selects the k-th element of a range using the Floyd-Rivest algorithm.
+         * 
+         * @param arr The array containing the range
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param k The index to fill, between from and to - 1
+         */
+        @Override
+        public void selectInPlace(int[] arr, int from, int to, int k) {
+            floydRivest(arr, from, to - 1, k);
+        }
+        
+        /**
+         * Selects the k-th element of arr[left, right]. Large ranges first recurse on a small
+         * window around k, which places two pivots that bracket the k-th element with high
+         * probability, so the following partition discards almost the whole range.
+         * 
+         * @param arr The array containing the range
+         * @param left The starting index (inclusive)
+         * @param right The ending index (inclusive)
+         * @param k The index to fill
+         */
+        private void floydRivest(int[] arr, int left, int right, int k) {
+            while (right > left) {
+                if (right - left > SAMPLE_THRESHOLD) {
+                    double n = right - left + 1;
+                    double i = k - left + 1;
+                    double z = Math.log(n);
+                    double s = 0.5 * Math.exp(2 * z / 3);
+                    double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2);
+                    int newLeft = (int) Math.max(left, Math.floor(k - i * s / n + sd));
+                    int newRight = (int) Math.min(right, Math.floor(k + (n - i) * s / n + sd));
+                    floydRivest(arr, newLeft, newRight, k);
+                }
+                
+                int pivot = arr[k];
+                int i = left;
+                int j = right;
+                
+                // Put pivot-bounding sentinels at both ends of the range
+                swap(arr, left, k);
+                if (arr[right] > pivot) {
+                    swap(arr, right, left);
+                }
+                
+                while (i < j) {
+                    swap(arr, i, j);
+                    i++;
+                    j--;
+                    while (arr[i] < pivot) {
+                        i++;
+                    }
+                    while (arr[j] > pivot) {
+                        j--;
+                    }
+                }
+                
+                if (arr[left] == pivot) {
+                    swap(arr, left, j);
+                } else {
+                    j++;
+                    swap(arr, j, right);
+                }
+                
+                // The pivot is now at index j
+                if (j <= k) {
+                    left = j + 1;
+                }
+                if (k <= j) {
+                    right = j - 1;
+                }
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "Floyd-Rivest";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Selects within a small random-looking sample first to find pivots that tightly bracket the requested rank, so each partition discards nearly all elements; needs close to n + min(k, n - k) comparisons on average.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n) average";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(log n) beyond the copy";
+        }
+    }
+    
+    /**
+     * Heap-based Top-K selection implementation.
+     */
+    public static class HeapTopK implements SelectionAlgorithm {
+        
+        /**
+         * Finds the k smallest elements with a bounded max-heap of size k. The input is read
+         * once from front to back and never copied, so it also suits streamed data.
+         * 
+         * @param arr The array to select from
+         * @param k The number of elements to select, between 0 and arr.length
+         * @return The k smallest elements, in heap order
+         */
+        @Override
+        public int[] smallest(int[] arr, int k) {
+            checkCount(arr, k);
+            if (k == 0) {
+                return new int[0];
+            }
+            
+            int[] heap = Arrays.copyOf(arr, k);
+            for (int i = k / 2 - 1; i >= 0; i--) {
+                siftDown(heap, i, k);
+            }
+            
+            // Each element smaller than the largest kept so far replaces it
+            for (int i = k; i < arr.length; i++) {
+                if (arr[i] < heap[0]) {
+                    heap[0] = arr[i];
+                    siftDown(heap, 0, k);
+                }
+            }
+            
+            return heap;
+        }
+        
+        /**
+         * Finds the k-th smallest element as the root of the heap of the k + 1 smallest elements.
+         * 
+         * @param arr The array to select from
+         * @param k The zero-based rank of the element, between 0 and arr.length - 1
+         * @return The k-th smallest element
+         */
+        @Override
+        public int select(int[] arr, int k) {
+            checkRank(arr, k);
+            return smallest(arr, k + 1)[0];
+        }
+        
+        /**
+         * Restores the max-heap property for a heap stored at heap[0, size).
+         * 
+         * @param heap The array holding the heap
+         * @param node The heap index to sift down
+         * @param size The number of elements in the heap
+         */
+        private void siftDown(int[] heap, int node, int size) {
+            int value = heap[node];
+            
+            while (true) {
+                int child = 2 * node + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1] > heap[child]) {
+                    child++;
+                }
+                if (heap[child] <= value) {
+                    break;
+                }
+                heap[node] = heap[child];
+                node = child;
+            }
+            
+            heap[node] = value;
+        }
+        
+        @Override
+        public String getName() {
+            return "Heap Top-K";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Keeps the k smallest elements seen so far in a primitive max-heap of size k, replacing the root whenever a smaller element arrives; reads the input once and never modifies it.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n log k)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(k)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SELECTION;
+        }
+    }
+    
+    /**
+     * Baseline selection that sorts a copy of the whole array and slices the result.
+     */
+    public static class FullSortSelection implements SelectionAlgorithm {
+        private final InPlaceSort sorter;
+        
+        /**
+         * Constructs the baseline using Quick Sort.
+         */
+        public FullSortSelection() {
+            this(new SortingAlgorithms.QuickSort());
+        }
+        
+        /**
+         * Constructs the baseline using the given sorting algorithm.
+         * 
+         * @param sorter The sorting algorithm used to sort the copy
+         */
+        public FullSortSelection(InPlaceSort sorter) {
+            this.sorter = sorter;
+        }
+        
+        @Override
+        public int[] smallest(int[] arr, int k) {
+            checkCount(arr, k);
+            return Arrays.copyOf(sorter.sort(arr), k);
+        }
+        
+        @Override
+        public int select(int[] arr, int k) {
+            checkRank(arr, k);
+            return sorter.sort(arr)[k];
+        }
+        
+        @Override
+        public String getName() {
+            return "Full Sort + Slice (" + sorter.getName() + ")";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Sorts a copy of the entire array and takes the first k elements; the baseline the selection algorithms are measured against.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return sorter.getTimeComplexity();
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SELECTION;
+        }
+    }
+}
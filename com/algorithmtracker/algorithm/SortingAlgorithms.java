@@ -1,36 +1,40 @@
 package com.algorithmtracker.algorithm;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Implementation of various sorting algorithms.
- * Includes Bubble Sort, Insertion Sort, Selection Sort, Merge Sort, and Quick Sort.
+ * Includes Bubble Sort, Insertion Sort, Selection Sort, Merge Sort, Parallel Merge Sort, Quick Sort,
+ * Pattern-Defeating Quick Sort, Adaptive Merge Sort, Counting Sort, and Block Quick Sort.
  */
 public class SortingAlgorithms {
     
     /**
      * Bubble Sort implementation.
      */
-    public static class BubbleSort implements Algorithm {
+    public static class BubbleSort implements InPlaceSort {
         
         /**
-         * Sorts an array using Bubble Sort algorithm.
+         * Sorts a range of an array in place using Bubble Sort algorithm.
          * 
-         * @param arr The array to be sorted
-         * @return The sorted array
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
          */
-        public int[] sort(int[] arr) {
-            int[] result = Arrays.copyOf(arr, arr.length);
-            int n = result.length;
-            
-            for (int i = 0; i < n - 1; i++) {
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            for (int end = to - 1; end > from; end--) {
                 boolean swapped = false;
-                for (int j = 0; j < n - i - 1; j++) {
-                    if (result[j] > result[j + 1]) {
+                for (int j = from; j < end; j++) {
+                    if (arr[j] > arr[j + 1]) {
                         // Swap elements
-                        int temp = result[j];
-                        result[j] = result[j + 1];
-                        result[j + 1] = temp;
+                        int temp = arr[j];
+                        arr[j] = arr[j + 1];
+                        arr[j + 1] = temp;
                         swapped = true;
                     }
                 }
@@ -40,8 +44,6 @@ public class SortingAlgorithms {
                     break;
                 }
             }
-            
-            return result;
         }
         
         @Override
@@ -73,31 +75,28 @@ public class SortingAlgorithms {
     /**
      * Insertion Sort implementation.
      */
-    public static class InsertionSort implements Algorithm {
+    public static class InsertionSort implements InPlaceSort {
         
         /**
-         * Sorts an array using Insertion Sort algorithm.
+         * Sorts a range of an array in place using Insertion Sort algorithm.
          * 
-         * @param arr The array to be sorted
-         * @return The sorted array
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
          */
-        public int[] sort(int[] arr) {
-            int[] result = Arrays.copyOf(arr, arr.length);
-            int n = result.length;
-            
-            for (int i = 1; i < n; i++) {
-                int key = result[i];
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                int key = arr[i];
                 int j = i - 1;
                 
                 // Move elements greater than key to one position ahead
-                while (j >= 0 && result[j] > key) {
-                    result[j + 1] = result[j];
+                while (j >= from && arr[j] > key) {
+                    arr[j + 1] = arr[j];
                     j = j - 1;
                 }
-                result[j + 1] = key;
+                arr[j + 1] = key;
             }
-            
-            return result;
         }
         
         @Override
@@ -129,34 +128,31 @@ public class SortingAlgorithms {
     /**
      * Selection Sort implementation.
      */
-    public static class SelectionSort implements Algorithm {
+    public static class SelectionSort implements InPlaceSort {
         
         /**
-         * Sorts an array using Selection Sort algorithm.
+         * Sorts a range of an array in place using Selection Sort algorithm.
          * 
-         * @param arr The array to be sorted
-         * @return The sorted array
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
          */
-        public int[] sort(int[] arr) {
-            int[] result = Arrays.copyOf(arr, arr.length);
-            int n = result.length;
-            
-            for (int i = 0; i < n - 1; i++) {
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            for (int i = from; i < to - 1; i++) {
                 // Find the minimum element in unsorted array
                 int minIdx = i;
-                for (int j = i + 1; j < n; j++) {
-                    if (result[j] < result[minIdx]) {
+                for (int j = i + 1; j < to; j++) {
+                    if (arr[j] < arr[minIdx]) {
                         minIdx = j;
                     }
                 }
                 
                 // Swap the found minimum element with the first element
-                int temp = result[minIdx];
-                result[minIdx] = result[i];
-                result[i] = temp;
+                int temp = arr[minIdx];
+                arr[minIdx] = arr[i];
+                arr[i] = temp;
             }
-            
-            return result;
         }
         
         @Override
@@ -188,18 +184,18 @@ public class SortingAlgorithms {
     /**
      * Merge Sort implementation.
      */
-    public static class MergeSort implements Algorithm {
+    public static class MergeSort implements InPlaceSort {
         
         /**
-         * Sorts an array using Merge Sort algorithm.
+         * Sorts a range of an array in place using Merge Sort algorithm.
          * 
-         * @param arr The array to be sorted
-         * @return The sorted array
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
          */
-        public int[] sort(int[] arr) {
-            int[] result = Arrays.copyOf(arr, arr.length);
-            mergeSort(result, 0, result.length - 1);
-            return result;
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            mergeSort(arr, from, to - 1);
         }
         
         /**
@@ -304,20 +300,322 @@ public class SortingAlgorithms {
     }
     
     /**
-     * Quick Sort implementation.
+     * Parallel Merge Sort implementation built on the fork/join framework.
+     * Uses a single preallocated scratch buffer, insertion sort for small
+     * ranges and parallel merging of large runs.
      */
-    public static class QuickSort implements Algorithm {
+    public static class ParallelMergeSort implements InPlaceSort, ParallelAlgorithm {
+        
+        /** Default range size below which insertion sort is used. */
+        public static final int DEFAULT_INSERTION_CUTOFF = 32;
+        
+        /** Range size below which sorting and merging are done sequentially. */
+        private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+        
+        private final int parallelism;
+        private final int insertionCutoff;
+        private final WorkerPool pool;
+        
+        /**
+         * Constructs a parallel merge sort using all available processors.
+         */
+        public ParallelMergeSort() {
+            this(Runtime.getRuntime().availableProcessors(), DEFAULT_INSERTION_CUTOFF);
+        }
+        
+        /**
+         * Constructs a parallel merge sort with the specified number of threads.
+         * 
+         * @param parallelism The number of worker threads
+         */
+        public ParallelMergeSort(int parallelism) {
+            this(parallelism, DEFAULT_INSERTION_CUTOFF);
+        }
+        
+        /**
+         * Constructs a parallel merge sort with the specified number of threads and insertion sort cutoff.
+         * 
+         * @param parallelism The number of worker threads
+         * @param insertionCutoff The range size below which insertion sort is used
+         */
+        public ParallelMergeSort(int parallelism, int insertionCutoff) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+            }
+            if (insertionCutoff < 1) {
+                throw new IllegalArgumentException("Insertion cutoff must be at least 1: " + insertionCutoff);
+            }
+            this.parallelism = parallelism;
+            this.insertionCutoff = insertionCutoff;
+            this.pool = new WorkerPool(parallelism);
+        }
+        
+        /**
+         * Sorts a range of an array in place using Parallel Merge Sort algorithm.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            
+            // The scratch buffer starts as a copy so that every level can ping-pong between the two arrays
+            int[] buffer = Arrays.copyOfRange(arr, from, to);
+            pool.get().invoke(new SortTask(buffer, 0, arr, from, 0, to - from));
+        }
+        
+        /**
+         * Gets the number of worker threads used by this sort.
+         * 
+         * @return The parallelism
+         */
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+        
+        /**
+         * Gets the range size below which insertion sort is used.
+         * 
+         * @return The insertion sort cutoff
+         */
+        public int getInsertionCutoff() {
+            return insertionCutoff;
+        }
+        
+        @Override
+        public void close() {
+            pool.shutdown();
+        }
+        
+        /**
+         * Sorts the relative range [from, to) of src into dst sequentially.
+         * Both arrays must hold the same elements in that range on entry.
+         * 
+         * @param src The array used as scratch space
+         * @param srcBase The index in src that relative index 0 maps to
+         * @param dst The array that receives the sorted range
+         * @param dstBase The index in dst that relative index 0 maps to
+         * @param from The starting relative index (inclusive)
+         * @param to The ending relative index (exclusive)
+         */
+        private void sortSequential(int[] src, int srcBase, int[] dst, int dstBase, int from, int to) {
+            if (to - from <= insertionCutoff) {
+                insertionSort(dst, dstBase + from, dstBase + to);
+                return;
+            }
+            
+            int mid = (from + to) >>> 1;
+            
+            // Swapping the roles of the arrays leaves both sorted halves in src
+            sortSequential(dst, dstBase, src, srcBase, from, mid);
+            sortSequential(dst, dstBase, src, srcBase, mid, to);
+            
+            mergeSequential(src, srcBase + from, srcBase + mid, srcBase + mid, srcBase + to, dst, dstBase + from);
+        }
         
         /**
-         * Sorts an array using Quick Sort algorithm.
+         * Sorts a range of an array using insertion sort.
          * 
          * @param arr The array to be sorted
-         * @return The sorted array
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        private static void insertionSort(int[] arr, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                int key = arr[i];
+                int j = i - 1;
+                while (j >= from && arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                arr[j + 1] = key;
+            }
+        }
+        
+        /**
+         * Merges the sorted runs src[lo1, hi1) and src[lo2, hi2) into dst starting at index out.
+         * 
+         * @param src The array holding both runs
+         * @param lo1 The start of the first run
+         * @param hi1 The end of the first run
+         * @param lo2 The start of the second run
+         * @param hi2 The end of the second run
+         * @param dst The destination array
+         * @param out The first destination index
+         */
+        private static void mergeSequential(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+            while (lo1 < hi1 && lo2 < hi2) {
+                // Taking from the first run on ties keeps the sort stable
+                if (src[lo1] <= src[lo2]) {
+                    dst[out++] = src[lo1++];
+                } else {
+                    dst[out++] = src[lo2++];
+                }
+            }
+            
+            if (lo1 < hi1) {
+                System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+            } else if (lo2 < hi2) {
+                System.arraycopy(src, lo2, dst, out, hi2 - lo2);
+            }
+        }
+        
+        /**
+         * Finds the first index in arr[from, to) whose value is not less than key
+         * (or greater than key when upper is true).
+         * 
+         * @param arr The sorted array
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param key The value to locate
+         * @param upper Whether equal values should be skipped
+         * @return The insertion point of the key
+         */
+        private static int bound(int[] arr, int from, int to, int key, boolean upper) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (arr[mid] < key || (upper && arr[mid] == key)) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+        
+        /**
+         * Fork/join task that sorts the relative range [from, to) of src into dst.
+         */
+        private class SortTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+            
+            private final int[] src;
+            private final int srcBase;
+            private final int[] dst;
+            private final int dstBase;
+            private final int from;
+            private final int to;
+            
+            SortTask(int[] src, int srcBase, int[] dst, int dstBase, int from, int to) {
+                this.src = src;
+                this.srcBase = srcBase;
+                this.dst = dst;
+                this.dstBase = dstBase;
+                this.from = from;
+                this.to = to;
+            }
+            
+            @Override
+            protected void compute() {
+                if (to - from <= SEQUENTIAL_THRESHOLD) {
+                    sortSequential(src, srcBase, dst, dstBase, from, to);
+                    return;
+                }
+                
+                int mid = (from + to) >>> 1;
+                invokeAll(new SortTask(dst, dstBase, src, srcBase, from, mid),
+                        new SortTask(dst, dstBase, src, srcBase, mid, to));
+                new MergeTask(src, srcBase + from, srcBase + mid, srcBase + mid, srcBase + to, dst, dstBase + from).compute();
+            }
+        }
+        
+        /**
+         * Fork/join task that merges two sorted runs by splitting the larger run
+         * at its median and locating the split point in the smaller run.
+         */
+        private static class MergeTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+            
+            private final int[] src;
+            private final int lo1;
+            private final int hi1;
+            private final int lo2;
+            private final int hi2;
+            private final int[] dst;
+            private final int out;
+            
+            MergeTask(int[] src, int lo1, int hi1, int lo2, int hi2, int[] dst, int out) {
+                this.src = src;
+                this.lo1 = lo1;
+                this.hi1 = hi1;
+                this.lo2 = lo2;
+                this.hi2 = hi2;
+                this.dst = dst;
+                this.out = out;
+            }
+            
+            @Override
+            protected void compute() {
+                int n1 = hi1 - lo1;
+                int n2 = hi2 - lo2;
+                
+                if (n1 + n2 <= SEQUENTIAL_THRESHOLD) {
+                    mergeSequential(src, lo1, hi1, lo2, hi2, dst, out);
+                    return;
+                }
+                
+                int split1;
+                int split2;
+                if (n1 >= n2) {
+                    split1 = (lo1 + hi1) >>> 1;
+                    split2 = bound(src, lo2, hi2, src[split1], false);
+                } else {
+                    split2 = (lo2 + hi2) >>> 1;
+                    split1 = bound(src, lo1, hi1, src[split2], true);
+                }
+                
+                int outSplit = out + (split1 - lo1) + (split2 - lo2);
+                invokeAll(new MergeTask(src, lo1, split1, lo2, split2, dst, out),
+                        new MergeTask(src, split1, hi1, split2, hi2, dst, outSplit));
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "Parallel Merge Sort (" + parallelism + (parallelism == 1 ? " thread)" : " threads)");
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A fork/join merge sort that sorts both halves concurrently, merges large runs in parallel, ping-pongs between the array and one scratch buffer, and switches to insertion sort for small ranges.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n log n) work, O(log³ n) span";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+    
+    /**
+     * Quick Sort implementation.
+     */
+    public static class QuickSort implements InPlaceSort {
+        
+        /**
+         * Sorts a range of an array in place using Quick Sort algorithm.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
          */
-        public int[] sort(int[] arr) {
-            int[] result = Arrays.copyOf(arr, arr.length);
-            quickSort(result, 0, result.length - 1);
-            return result;
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            quickSort(arr, from, to - 1);
         }
         
         /**
@@ -328,13 +626,19 @@ public class SortingAlgorithms {
          * @param high The ending index
          */
         private void quickSort(int[] arr, int low, int high) {
-            if (low < high) {
+            while (low < high) {
                 // Partition the array and get the pivot index
                 int pivotIndex = partition(arr, low, high);
                 
-                // Recursively sort elements before and after partition
-                quickSort(arr, low, pivotIndex - 1);
-                quickSort(arr, pivotIndex + 1, high);
+                // Recurse into the smaller side and loop on the larger one so that
+                // sorted or reversed input cannot overflow the stack
+                if (pivotIndex - low < high - pivotIndex) {
+                    quickSort(arr, low, pivotIndex - 1);
+                    low = pivotIndex + 1;
+                } else {
+                    quickSort(arr, pivotIndex + 1, high);
+                    high = pivotIndex - 1;
+                }
             }
         }
         
@@ -398,4 +702,1566 @@ public class SortingAlgorithms {
             return AlgorithmCategory.SORTING;
         }
     }
+    
+    /**
+     * Pattern-Defeating Quick Sort implementation.
+     * An introsort variant that uses median-of-three or ninther pivots, groups runs of
+     * equal keys with a three-way partition, shuffles elements after unbalanced partitions,
+     * and falls back to heap sort once its depth budget is exhausted.
+     */
+    public static class PatternDefeatingQuickSort implements InPlaceSort {
+        
+        /** Ranges smaller than this are sorted with insertion sort. */
+        private static final int INSERTION_SORT_THRESHOLD = 24;
+        
+        /** Ranges larger than this use a ninther (median of medians of three) pivot. */
+        private static final int NINTHER_THRESHOLD = 128;
+        
+        /** Maximum number of element moves a partial insertion sort may make before giving up. */
+        private static final int PARTIAL_INSERTION_SORT_LIMIT = 8;
+        
+        /**
+         * Sorts a range of an array in place using Pattern-Defeating Quick Sort algorithm.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            if (to - from > 1) {
+                pdqSort(arr, from, to, log2(to - from), true);
+            }
+        }
+        
+        /**
+         * Sorts arr[begin, end). Recurses into the smaller partition and loops on the
+         * larger one, so the stack depth never exceeds O(log n).
+         * 
+         * @param arr The array to be sorted
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         * @param badAllowed The number of unbalanced partitions allowed before switching to heap sort
+         * @param leftmost Whether the range has no smaller-or-equal element directly before it
+         */
+        private void pdqSort(int[] arr, int begin, int end, int badAllowed, boolean leftmost) {
+            while (true) {
+                int size = end - begin;
+                
+                if (size < INSERTION_SORT_THRESHOLD) {
+                    if (leftmost) {
+                        insertionSort(arr, begin, end);
+                    } else {
+                        unguardedInsertionSort(arr, begin, end);
+                    }
+                    return;
+                }
+                
+                // Choose the pivot and move it to arr[begin]
+                int half = size / 2;
+                if (size > NINTHER_THRESHOLD) {
+                    sort3(arr, begin, begin + half, end - 1);
+                    sort3(arr, begin + 1, begin + half - 1, end - 2);
+                    sort3(arr, begin + 2, begin + half + 1, end - 3);
+                    sort3(arr, begin + half - 1, begin + half, begin + half + 1);
+                    swap(arr, begin, begin + half);
+                } else {
+                    sort3(arr, begin + half, begin, end - 1);
+                }
+                
+                // If the pivot equals the element before this range, the range is full of duplicates
+                // of that value; group them to the left and only keep sorting the larger elements
+                if (!leftmost && arr[begin - 1] == arr[begin]) {
+                    begin = partitionLeft(arr, begin, end) + 1;
+                    continue;
+                }
+                
+                int pivotPos = partitionRight(arr, begin, end);
+                boolean alreadyPartitioned = pivotPos < 0;
+                if (alreadyPartitioned) {
+                    pivotPos = ~pivotPos;
+                }
+                
+                int leftSize = pivotPos - begin;
+                int rightSize = end - (pivotPos + 1);
+                boolean highlyUnbalanced = leftSize < size / 8 || rightSize < size / 8;
+                
+                if (highlyUnbalanced) {
+                    if (--badAllowed == 0) {
+                        heapSort(arr, begin, end);
+                        return;
+                    }
+                    
+                    // Break up patterns that caused the bad pivot
+                    if (leftSize >= INSERTION_SORT_THRESHOLD) {
+                        swap(arr, begin, begin + leftSize / 4);
+                        swap(arr, pivotPos - 1, pivotPos - leftSize / 4);
+                        if (leftSize > NINTHER_THRESHOLD) {
+                            swap(arr, begin + 1, begin + leftSize / 4 + 1);
+                            swap(arr, begin + 2, begin + leftSize / 4 + 2);
+                            swap(arr, pivotPos - 2, pivotPos - (leftSize / 4 + 1));
+                            swap(arr, pivotPos - 3, pivotPos - (leftSize / 4 + 2));
+                        }
+                    }
+                    if (rightSize >= INSERTION_SORT_THRESHOLD) {
+                        swap(arr, pivotPos + 1, pivotPos + 1 + rightSize / 4);
+                        swap(arr, end - 1, end - rightSize / 4);
+                        if (rightSize > NINTHER_THRESHOLD) {
+                            swap(arr, pivotPos + 2, pivotPos + 2 + rightSize / 4);
+                            swap(arr, pivotPos + 3, pivotPos + 3 + rightSize / 4);
+                            swap(arr, end - 2, end - (1 + rightSize / 4));
+                            swap(arr, end - 3, end - (2 + rightSize / 4));
+                        }
+                    }
+                } else if (alreadyPartitioned
+                        && partialInsertionSort(arr, begin, pivotPos)
+                        && partialInsertionSort(arr, pivotPos + 1, end)) {
+                    // A balanced partition that needed no swaps is likely (nearly) sorted already
+                    return;
+                }
+                
+                // Recurse into the smaller side and loop on the larger one
+                if (leftSize < rightSize) {
+                    pdqSort(arr, begin, pivotPos, badAllowed, leftmost);
+                    begin = pivotPos + 1;
+                    leftmost = false;
+                } else {
+                    pdqSort(arr, pivotPos + 1, end, badAllowed, false);
+                    end = pivotPos;
+                }
+            }
+        }
+        
+        /**
+         * Partitions arr[begin, end) around the pivot at arr[begin]. Elements equal to the
+         * pivot go to the right partition.
+         * 
+         * @param arr The array to be partitioned
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         * @return The final pivot position, bitwise negated if no elements had to be swapped
+         */
+        private int partitionRight(int[] arr, int begin, int end) {
+            int pivot = arr[begin];
+            int first = begin;
+            int last = end;
+            
+            // The pivot selection guarantees an element >= pivot exists at the end of the range
+            while (arr[++first] < pivot) {
+                // Skip elements already on the correct side
+            }
+            
+            // Without an element < pivot before first, the scan from the right must be guarded
+            if (first - 1 == begin) {
+                while (first < last && arr[--last] >= pivot) {
+                    // Skip elements already on the correct side
+                }
+            } else {
+                while (arr[--last] >= pivot) {
+                    // Skip elements already on the correct side
+                }
+            }
+            
+            boolean alreadyPartitioned = first >= last;
+            
+            while (first < last) {
+                swap(arr, first, last);
+                while (arr[++first] < pivot) {
+                    // Skip elements already on the correct side
+                }
+                while (arr[--last] >= pivot) {
+                    // Skip elements already on the correct side
+                }
+            }
+            
+            int pivotPos = first - 1;
+            arr[begin] = arr[pivotPos];
+            arr[pivotPos] = pivot;
+            
+            return alreadyPartitioned ? ~pivotPos : pivotPos;
+        }
+        
+        /**
+         * Partitions arr[begin, end) around the pivot at arr[begin]. Elements equal to the
+         * pivot go to the left partition, which then needs no further sorting.
+         * 
+         * @param arr The array to be partitioned
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         * @return The final pivot position
+         */
+        private int partitionLeft(int[] arr, int begin, int end) {
+            int pivot = arr[begin];
+            int first = begin;
+            int last = end;
+            
+            while (pivot < arr[--last]) {
+                // Skip elements already on the correct side
+            }
+            
+            if (last + 1 == end) {
+                while (first < last && pivot >= arr[++first]) {
+                    // Skip elements already on the correct side
+                }
+            } else {
+                while (pivot >= arr[++first]) {
+                    // Skip elements already on the correct side
+                }
+            }
+            
+            while (first < last) {
+                swap(arr, first, last);
+                while (pivot < arr[--last]) {
+                    // Skip elements already on the correct side
+                }
+                while (pivot >= arr[++first]) {
+                    // Skip elements already on the correct side
+                }
+            }
+            
+            int pivotPos = last;
+            arr[begin] = arr[pivotPos];
+            arr[pivotPos] = pivot;
+            
+            return pivotPos;
+        }
+        
+        /**
+         * Sorts a range of an array using insertion sort.
+         * 
+         * @param arr The array to be sorted
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         */
+        private void insertionSort(int[] arr, int begin, int end) {
+            for (int i = begin + 1; i < end; i++) {
+                int key = arr[i];
+                int j = i - 1;
+                while (j >= begin && arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                arr[j + 1] = key;
+            }
+        }
+        
+        /**
+         * Sorts a range using insertion sort without a bounds check, relying on
+         * arr[begin - 1] being no greater than any element in the range.
+         * 
+         * @param arr The array to be sorted
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         */
+        private void unguardedInsertionSort(int[] arr, int begin, int end) {
+            for (int i = begin + 1; i < end; i++) {
+                int key = arr[i];
+                int j = i - 1;
+                while (arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                arr[j + 1] = key;
+            }
+        }
+        
+        /**
+         * Attempts to insertion sort a range, giving up after a fixed number of element moves.
+         * 
+         * @param arr The array to be sorted
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         * @return true if the range is now sorted, false if the attempt was abandoned
+         */
+        private boolean partialInsertionSort(int[] arr, int begin, int end) {
+            int moves = 0;
+            
+            for (int i = begin + 1; i < end; i++) {
+                int key = arr[i];
+                int j = i - 1;
+                while (j >= begin && arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                arr[j + 1] = key;
+                moves += i - (j + 1);
+                
+                if (moves > PARTIAL_INSERTION_SORT_LIMIT) {
+                    return false;
+                }
+            }
+            
+            return true;
+        }
+        
+        /**
+         * Sorts a range of an array using heap sort.
+         * 
+         * @param arr The array to be sorted
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         */
+        private void heapSort(int[] arr, int begin, int end) {
+            int n = end - begin;
+            
+            for (int i = n / 2 - 1; i >= 0; i--) {
+                siftDown(arr, begin, i, n);
+            }
+            
+            for (int i = n - 1; i > 0; i--) {
+                swap(arr, begin, begin + i);
+                siftDown(arr, begin, 0, i);
+            }
+        }
+        
+        /**
+         * Restores the max-heap property for the heap stored at arr[offset, offset + size).
+         * 
+         * @param arr The array holding the heap
+         * @param offset The index of the heap root
+         * @param node The heap index to sift down
+         * @param size The number of elements in the heap
+         */
+        private void siftDown(int[] arr, int offset, int node, int size) {
+            int value = arr[offset + node];
+            
+            while (true) {
+                int child = 2 * node + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && arr[offset + child + 1] > arr[offset + child]) {
+                    child++;
+                }
+                if (arr[offset + child] <= value) {
+                    break;
+                }
+                arr[offset + node] = arr[offset + child];
+                node = child;
+            }
+            
+            arr[offset + node] = value;
+        }
+        
+        /**
+         * Orders three elements so that arr[i] <= arr[j] <= arr[k].
+         * 
+         * @param arr The array
+         * @param i The first index
+         * @param j The second index
+         * @param k The third index
+         */
+        private void sort3(int[] arr, int i, int j, int k) {
+            if (arr[j] < arr[i]) {
+                swap(arr, i, j);
+            }
+            if (arr[k] < arr[j]) {
+                swap(arr, j, k);
+                if (arr[j] < arr[i]) {
+                    swap(arr, i, j);
+                }
+            }
+        }
+        
+        /**
+         * Swaps two elements of an array.
+         * 
+         * @param arr The array
+         * @param i The first index
+         * @param j The second index
+         */
+        private void swap(int[] arr, int i, int j) {
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        
+        /**
+         * Computes the floor of the base-2 logarithm of a positive number.
+         * 
+         * @param n The number
+         * @return The floor of log2(n)
+         */
+        private int log2(int n) {
+            return 31 - Integer.numberOfLeadingZeros(n);
+        }
+        
+        @Override
+        public String getName() {
+            return "Pattern-Defeating Quick Sort";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "An introsort variant that picks median-of-three or ninther pivots, groups duplicate keys with a three-way partition, detects already sorted ranges, and falls back to heap sort when partitions keep coming out unbalanced.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n log n) worst case, O(n) on sorted input";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(log n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+    
+    /**
+     * Adaptive Merge Sort implementation in the style of TimSort.
+     * Detects ascending and descending runs, extends short runs with binary insertion
+     * sort, and merges runs with galloping, so presorted input sorts in near-linear time.
+     */
+    public static class AdaptiveMergeSort implements InPlaceSort {
+        
+        /** Ranges shorter than this are sorted with binary insertion sort alone; also the upper bound on the minimum run length. */
+        private static final int MIN_MERGE = 32;
+        
+        /** Number of consecutive wins by one run before a merge switches to galloping mode. */
+        private static final int MIN_GALLOP = 7;
+        
+        /** Maximum number of pending runs; run lengths grow at least as fast as Fibonacci numbers. */
+        private static final int MAX_PENDING_RUNS = 49;
+        
+        /**
+         * Sorts a range of an array in place using Adaptive Merge Sort algorithm.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            int remaining = to - from;
+            if (remaining < 2) {
+                return;
+            }
+            
+            // Small ranges need no merging at all
+            if (remaining < MIN_MERGE) {
+                int initialRunLength = countRunAndMakeAscending(arr, from, to);
+                binaryInsertionSort(arr, from, to, from + initialRunLength);
+                return;
+            }
+            
+            new RunMerger(arr, remaining).sort(from, to);
+        }
+        
+        /**
+         * Finds the length of the run starting at arr[from] and reverses it if it is strictly descending.
+         * 
+         * @param arr The array
+         * @param from The index where the run begins
+         * @param to The end of the range (exclusive)
+         * @return The length of the run
+         */
+        private static int countRunAndMakeAscending(int[] arr, int from, int to) {
+            int runEnd = from + 1;
+            if (runEnd == to) {
+                return 1;
+            }
+            
+            if (arr[runEnd++] < arr[from]) {
+                // Only strictly descending runs are reversed, which keeps the sort stable
+                while (runEnd < to && arr[runEnd] < arr[runEnd - 1]) {
+                    runEnd++;
+                }
+                reverseRange(arr, from, runEnd);
+            } else {
+                while (runEnd < to && arr[runEnd] >= arr[runEnd - 1]) {
+                    runEnd++;
+                }
+            }
+            
+            return runEnd - from;
+        }
+        
+        /**
+         * Reverses arr[from, to).
+         * 
+         * @param arr The array
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        private static void reverseRange(int[] arr, int from, int to) {
+            to--;
+            while (from < to) {
+                int temp = arr[from];
+                arr[from++] = arr[to];
+                arr[to--] = temp;
+            }
+        }
+        
+        /**
+         * Sorts arr[from, to) with binary insertion sort, given that arr[from, start) is already sorted.
+         * 
+         * @param arr The array
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param start The first index not known to be sorted
+         */
+        private static void binaryInsertionSort(int[] arr, int from, int to, int start) {
+            if (start == from) {
+                start++;
+            }
+            
+            for (; start < to; start++) {
+                int pivot = arr[start];
+                int left = from;
+                int right = start;
+                
+                // Insert after any equal elements so the sort stays stable
+                while (left < right) {
+                    int mid = (left + right) >>> 1;
+                    if (pivot < arr[mid]) {
+                        right = mid;
+                    } else {
+                        left = mid + 1;
+                    }
+                }
+                
+                System.arraycopy(arr, left, arr, left + 1, start - left);
+                arr[left] = pivot;
+            }
+        }
+        
+        /**
+         * Computes the minimum run length: a value in [MIN_MERGE / 2, MIN_MERGE] chosen so that
+         * n / minRun is a power of two or slightly less, which keeps the final merges balanced.
+         * 
+         * @param n The length of the range
+         * @return The minimum run length
+         */
+        private static int minRunLength(int n) {
+            int remainder = 0;
+            while (n >= MIN_MERGE) {
+                remainder |= (n & 1);
+                n >>= 1;
+            }
+            return n + remainder;
+        }
+        
+        /**
+         * Finds the leftmost position at which key can be inserted into the sorted range
+         * arr[base, base + length), galloping outwards from base + hint.
+         * 
+         * @param key The value to locate
+         * @param arr The array
+         * @param base The start of the range
+         * @param length The length of the range
+         * @param hint The index relative to base at which to start galloping
+         * @return The number of elements in the range that are less than key
+         */
+        private static int gallopLeft(int key, int[] arr, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            
+            if (key > arr[base + hint]) {
+                // Gallop right until arr[base + hint + lastOffset] < key <= arr[base + hint + offset]
+                int maxOffset = length - hint;
+                while (offset < maxOffset && key > arr[base + hint + offset]) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                lastOffset += hint;
+                offset += hint;
+            } else {
+                // Gallop left until arr[base + hint - offset] < key <= arr[base + hint - lastOffset]
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && key <= arr[base + hint - offset]) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            }
+            
+            // Binary search the bracketed interval
+            lastOffset++;
+            while (lastOffset < offset) {
+                int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (key > arr[base + mid]) {
+                    lastOffset = mid + 1;
+                } else {
+                    offset = mid;
+                }
+            }
+            
+            return offset;
+        }
+        
+        /**
+         * Like gallopLeft, but finds the rightmost insertion position when the range contains
+         * elements equal to key.
+         * 
+         * @param key The value to locate
+         * @param arr The array
+         * @param base The start of the range
+         * @param length The length of the range
+         * @param hint The index relative to base at which to start galloping
+         * @return The number of elements in the range that are less than or equal to key
+         */
+        private static int gallopRight(int key, int[] arr, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            
+            if (key < arr[base + hint]) {
+                // Gallop left until arr[base + hint - offset] <= key < arr[base + hint - lastOffset]
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && key < arr[base + hint - offset]) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            } else {
+                // Gallop right until arr[base + hint + lastOffset] <= key < arr[base + hint + offset]
+                int maxOffset = length - hint;
+                while (offset < maxOffset && key >= arr[base + hint + offset]) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                lastOffset += hint;
+                offset += hint;
+            }
+            
+            lastOffset++;
+            while (lastOffset < offset) {
+                int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (key < arr[base + mid]) {
+                    offset = mid;
+                } else {
+                    lastOffset = mid + 1;
+                }
+            }
+            
+            return offset;
+        }
+        
+        /**
+         * Holds the state of one sort call: the stack of pending runs, the merge buffer,
+         * and the adaptive galloping threshold.
+         */
+        private static class RunMerger {
+            private final int[] arr;
+            private int[] buffer;
+            private int minGallop = MIN_GALLOP;
+            
+            private final int[] runBase = new int[MAX_PENDING_RUNS];
+            private final int[] runLength = new int[MAX_PENDING_RUNS];
+            private int pendingRuns = 0;
+            
+            RunMerger(int[] arr, int length) {
+                this.arr = arr;
+                
+                // Merges never need more than half the range; start small and grow on demand
+                this.buffer = new int[Math.min(length >>> 1, 256)];
+            }
+            
+            /**
+             * Sorts arr[from, to) by collecting runs and merging them.
+             * 
+             * @param from The starting index (inclusive)
+             * @param to The ending index (exclusive)
+             */
+            void sort(int from, int to) {
+                int remaining = to - from;
+                int minRun = minRunLength(remaining);
+                
+                do {
+                    int length = countRunAndMakeAscending(arr, from, to);
+                    
+                    // Extend short runs to minRun elements
+                    if (length < minRun) {
+                        int forced = Math.min(remaining, minRun);
+                        binaryInsertionSort(arr, from, from + forced, from + length);
+                        length = forced;
+                    }
+                    
+                    runBase[pendingRuns] = from;
+                    runLength[pendingRuns] = length;
+                    pendingRuns++;
+                    mergeCollapse();
+                    
+                    from += length;
+                    remaining -= length;
+                } while (remaining != 0);
+                
+                mergeForceCollapse();
+            }
+            
+            /**
+             * Merges pending runs until the run lengths on the stack decrease faster than the
+             * Fibonacci sequence, which keeps merges balanced and the stack shallow.
+             */
+            private void mergeCollapse() {
+                while (pendingRuns > 1) {
+                    int n = pendingRuns - 2;
+                    if ((n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1])
+                            || (n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1])) {
+                        if (runLength[n - 1] < runLength[n + 1]) {
+                            n--;
+                        }
+                    } else if (runLength[n] > runLength[n + 1]) {
+                        break;
+                    }
+                    mergeAt(n);
+                }
+            }
+            
+            /**
+             * Merges all remaining runs into one.
+             */
+            private void mergeForceCollapse() {
+                while (pendingRuns > 1) {
+                    int n = pendingRuns - 2;
+                    if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                    mergeAt(n);
+                }
+            }
+            
+            /**
+             * Merges the pending runs at stack positions i and i + 1.
+             * 
+             * @param i The stack index of the first run
+             */
+            private void mergeAt(int i) {
+                int base1 = runBase[i];
+                int length1 = runLength[i];
+                int base2 = runBase[i + 1];
+                int length2 = runLength[i + 1];
+                
+                runLength[i] = length1 + length2;
+                if (i == pendingRuns - 3) {
+                    runBase[i + 1] = runBase[i + 2];
+                    runLength[i + 1] = runLength[i + 2];
+                }
+                pendingRuns--;
+                
+                // Elements of the first run that are already in place can be skipped
+                int skipped = gallopRight(arr[base2], arr, base1, length1, 0);
+                base1 += skipped;
+                length1 -= skipped;
+                if (length1 == 0) {
+                    return;
+                }
+                
+                // Likewise for the tail of the second run
+                length2 = gallopLeft(arr[base1 + length1 - 1], arr, base2, length2, length2 - 1);
+                if (length2 == 0) {
+                    return;
+                }
+                
+                if (length1 <= length2) {
+                    mergeLow(base1, length1, base2, length2);
+                } else {
+                    mergeHigh(base1, length1, base2, length2);
+                }
+            }
+            
+            /**
+             * Merges two adjacent runs left to right, buffering the first (shorter) run.
+             * 
+             * @param base1 The start of the first run
+             * @param length1 The length of the first run
+             * @param base2 The start of the second run
+             * @param length2 The length of the second run
+             */
+            private void mergeLow(int base1, int length1, int base2, int length2) {
+                int[] a = arr;
+                int[] tmp = ensureCapacity(length1);
+                System.arraycopy(a, base1, tmp, 0, length1);
+                
+                int cursor1 = 0;
+                int cursor2 = base2;
+                int dest = base1;
+                
+                // mergeAt guarantees the first element of run 2 goes first
+                a[dest++] = a[cursor2++];
+                if (--length2 == 0) {
+                    System.arraycopy(tmp, cursor1, a, dest, length1);
+                    return;
+                }
+                if (length1 == 1) {
+                    System.arraycopy(a, cursor2, a, dest, length2);
+                    a[dest + length2] = tmp[cursor1];
+                    return;
+                }
+                
+                int gallopThreshold = minGallop;
+                outer:
+                while (true) {
+                    int wins1 = 0;
+                    int wins2 = 0;
+                    
+                    // One element at a time until one run starts winning consistently
+                    do {
+                        if (a[cursor2] < tmp[cursor1]) {
+                            a[dest++] = a[cursor2++];
+                            wins2++;
+                            wins1 = 0;
+                            if (--length2 == 0) {
+                                break outer;
+                            }
+                        } else {
+                            a[dest++] = tmp[cursor1++];
+                            wins1++;
+                            wins2 = 0;
+                            if (--length1 == 1) {
+                                break outer;
+                            }
+                        }
+                    } while ((wins1 | wins2) < gallopThreshold);
+                    
+                    // Galloping mode: copy whole stretches found by exponential search
+                    do {
+                        wins1 = gallopRight(a[cursor2], tmp, cursor1, length1, 0);
+                        if (wins1 != 0) {
+                            System.arraycopy(tmp, cursor1, a, dest, wins1);
+                            dest += wins1;
+                            cursor1 += wins1;
+                            length1 -= wins1;
+                            if (length1 <= 1) {
+                                break outer;
+                            }
+                        }
+                        a[dest++] = a[cursor2++];
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                        
+                        wins2 = gallopLeft(tmp[cursor1], a, cursor2, length2, 0);
+                        if (wins2 != 0) {
+                            System.arraycopy(a, cursor2, a, dest, wins2);
+                            dest += wins2;
+                            cursor2 += wins2;
+                            length2 -= wins2;
+                            if (length2 == 0) {
+                                break outer;
+                            }
+                        }
+                        a[dest++] = tmp[cursor1++];
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                        gallopThreshold--;
+                    } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+                    
+                    // Galloping stopped paying off; make it harder to re-enter
+                    if (gallopThreshold < 0) {
+                        gallopThreshold = 0;
+                    }
+                    gallopThreshold += 2;
+                }
+                minGallop = Math.max(1, gallopThreshold);
+                
+                if (length1 == 1) {
+                    System.arraycopy(a, cursor2, a, dest, length2);
+                    a[dest + length2] = tmp[cursor1];
+                } else {
+                    System.arraycopy(tmp, cursor1, a, dest, length1);
+                }
+            }
+            
+            /**
+             * Merges two adjacent runs right to left, buffering the second (shorter) run.
+             * 
+             * @param base1 The start of the first run
+             * @param length1 The length of the first run
+             * @param base2 The start of the second run
+             * @param length2 The length of the second run
+             */
+            private void mergeHigh(int base1, int length1, int base2, int length2) {
+                int[] a = arr;
+                int[] tmp = ensureCapacity(length2);
+                System.arraycopy(a, base2, tmp, 0, length2);
+                
+                int cursor1 = base1 + length1 - 1;
+                int cursor2 = length2 - 1;
+                int dest = base2 + length2 - 1;
+                
+                // mergeAt guarantees the last element of run 1 goes last
+                a[dest--] = a[cursor1--];
+                if (--length1 == 0) {
+                    System.arraycopy(tmp, 0, a, dest - (length2 - 1), length2);
+                    return;
+                }
+                if (length2 == 1) {
+                    dest -= length1;
+                    cursor1 -= length1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                    a[dest] = tmp[cursor2];
+                    return;
+                }
+                
+                int gallopThreshold = minGallop;
+                outer:
+                while (true) {
+                    int wins1 = 0;
+                    int wins2 = 0;
+                    
+                    do {
+                        if (tmp[cursor2] < a[cursor1]) {
+                            a[dest--] = a[cursor1--];
+                            wins1++;
+                            wins2 = 0;
+                            if (--length1 == 0) {
+                                break outer;
+                            }
+                        } else {
+                            a[dest--] = tmp[cursor2--];
+                            wins2++;
+                            wins1 = 0;
+                            if (--length2 == 1) {
+                                break outer;
+                            }
+                        }
+                    } while ((wins1 | wins2) < gallopThreshold);
+                    
+                    do {
+                        wins1 = length1 - gallopRight(tmp[cursor2], a, base1, length1, length1 - 1);
+                        if (wins1 != 0) {
+                            dest -= wins1;
+                            cursor1 -= wins1;
+                            length1 -= wins1;
+                            System.arraycopy(a, cursor1 + 1, a, dest + 1, wins1);
+                            if (length1 == 0) {
+                                break outer;
+                            }
+                        }
+                        a[dest--] = tmp[cursor2--];
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                        
+                        wins2 = length2 - gallopLeft(a[cursor1], tmp, 0, length2, length2 - 1);
+                        if (wins2 != 0) {
+                            dest -= wins2;
+                            cursor2 -= wins2;
+                            length2 -= wins2;
+                            System.arraycopy(tmp, cursor2 + 1, a, dest + 1, wins2);
+                            if (length2 <= 1) {
+                                break outer;
+                            }
+                        }
+                        a[dest--] = a[cursor1--];
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                        gallopThreshold--;
+                    } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+                    
+                    if (gallopThreshold < 0) {
+                        gallopThreshold = 0;
+                    }
+                    gallopThreshold += 2;
+                }
+                minGallop = Math.max(1, gallopThreshold);
+                
+                if (length2 == 1) {
+                    dest -= length1;
+                    cursor1 -= length1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                    a[dest] = tmp[cursor2];
+                } else {
+                    System.arraycopy(tmp, 0, a, dest - (length2 - 1), length2);
+                }
+            }
+            
+            /**
+             * Ensures the merge buffer can hold at least the specified number of elements,
+             * growing it to the next power of two (capped at half the array length).
+             * 
+             * @param minCapacity The required capacity
+             * @return The merge buffer
+             */
+            private int[] ensureCapacity(int minCapacity) {
+                if (buffer.length < minCapacity) {
+                    int newSize = Integer.highestOneBit(minCapacity) << 1;
+                    if (newSize < 0 || newSize > arr.length >>> 1) {
+                        newSize = Math.max(minCapacity, arr.length >>> 1);
+                    }
+                    buffer = new int[newSize];
+                }
+                return buffer;
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "Adaptive Merge Sort (TimSort)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A natural merge sort that finds existing ascending and descending runs, extends short runs with binary insertion sort, and merges them with galloping, so nearly sorted input is sorted in close to linear time.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n) on presorted input, O(n log n) worst case";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+    
+    /**
+     * Counting Sort implementation with a bucket sort fallback.
+     * Finds the key range in one pass, counts keys directly when the range is small
+     * relative to the input size, and otherwise distributes keys into buckets by value.
+     * The path taken is reported with the run details.
+     */
+    public static class CountingSort implements InPlaceSort, InstrumentedAlgorithm {
+        
+        /** Counting is used while the key range is at most this many times the input size. */
+        private static final int COUNTING_RANGE_FACTOR = 2;
+        
+        /** Upper bound on the count array size, regardless of the input size. */
+        private static final int MAX_COUNTING_RANGE = 1 << 24;
+        
+        /** Target number of keys per bucket on the bucket path. */
+        private static final int TARGET_BUCKET_SIZE = 16;
+        
+        /** Buckets up to this size are finished with insertion sort. */
+        private static final int INSERTION_SORT_THRESHOLD = 32;
+        
+        private final PatternDefeatingQuickSort bucketSort = new PatternDefeatingQuickSort();
+        private Map<String, String> lastRunDetails = new LinkedHashMap<>();
+        
+        /**
+         * Sorts a range of an array in place using Counting Sort, or Bucket Sort when the key range is large.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            Map<String, String> details = new LinkedHashMap<>();
+            int n = to - from;
+            
+            if (n < 2) {
+                details.put("Path", "trivial");
+                lastRunDetails = details;
+                return;
+            }
+            
+            int min = arr[from];
+            int max = arr[from];
+            for (int i = from + 1; i < to; i++) {
+                int value = arr[i];
+                if (value < min) {
+                    min = value;
+                } else if (value > max) {
+                    max = value;
+                }
+            }
+            
+            long range = (long) max - min + 1;
+            
+            if (range <= MAX_COUNTING_RANGE && range <= (long) COUNTING_RANGE_FACTOR * n) {
+                details.put("Path", "counting");
+                details.put("Key range", String.valueOf(range));
+                countingSort(arr, from, to, min, (int) range);
+            } else {
+                int buckets = Math.max(1, n / TARGET_BUCKET_SIZE);
+                details.put("Path", "bucket");
+                details.put("Key range", String.valueOf(range));
+                details.put("Buckets", String.valueOf(buckets));
+                bucketSort(arr, from, to, min, range, buckets);
+            }
+            
+            lastRunDetails = details;
+        }
+        
+        /**
+         * Sorts arr[from, to) by counting the occurrences of each key.
+         * 
+         * @param arr The array to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param min The smallest key in the range
+         * @param range The number of distinct possible keys
+         */
+        private void countingSort(int[] arr, int from, int to, int min, int range) {
+            int[] counts = new int[range];
+            for (int i = from; i < to; i++) {
+                counts[arr[i] - min]++;
+            }
+            
+            int position = from;
+            for (int offset = 0; offset < range; offset++) {
+                int count = counts[offset];
+                if (count > 0) {
+                    Arrays.fill(arr, position, position + count, min + offset);
+                    position += count;
+                }
+            }
+        }
+        
+        /**
+         * Sorts arr[from, to) by distributing keys into equal-width value buckets and sorting each bucket.
+         * Skewed inputs that overload a bucket fall back to pattern-defeating quick sort for that bucket.
+         * 
+         * @param arr The array to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         * @param min The smallest key in the range
+         * @param range The width of the key range
+         * @param buckets The number of buckets
+         */
+        private void bucketSort(int[] arr, int from, int to, int min, long range, int buckets) {
+            int n = to - from;
+            int[] starts = new int[buckets + 1];
+            
+            for (int i = from; i < to; i++) {
+                starts[bucketOf(arr[i], min, range, buckets) + 1]++;
+            }
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                starts[bucket + 1] += starts[bucket];
+            }
+            
+            // Scatter into scratch space in bucket order, then copy back
+            int[] next = Arrays.copyOf(starts, buckets);
+            int[] scratch = new int[n];
+            for (int i = from; i < to; i++) {
+                int value = arr[i];
+                scratch[next[bucketOf(value, min, range, buckets)]++] = value;
+            }
+            System.arraycopy(scratch, 0, arr, from, n);
+            
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                int bucketFrom = from + starts[bucket];
+                int bucketTo = from + starts[bucket + 1];
+                if (bucketTo - bucketFrom <= INSERTION_SORT_THRESHOLD) {
+                    insertionSort(arr, bucketFrom, bucketTo);
+                } else {
+                    bucketSort.sortInPlace(arr, bucketFrom, bucketTo);
+                }
+            }
+        }
+        
+        /**
+         * Maps a key to its bucket.
+         * 
+         * @param value The key
+         * @param min The smallest key
+         * @param range The width of the key range
+         * @param buckets The number of buckets
+         * @return The bucket index
+         */
+        private int bucketOf(int value, int min, long range, int buckets) {
+            return (int) (((long) value - min) * buckets / range);
+        }
+        
+        /**
+         * Sorts a range of an array using insertion sort.
+         * 
+         * @param arr The array to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        private void insertionSort(int[] arr, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                int key = arr[i];
+                int j = i - 1;
+                while (j >= from && arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                }
+                arr[j + 1] = key;
+            }
+        }
+        
+        /**
+         * Gets the details of the most recent run: the path taken ("counting" or "bucket"),
+         * the key range and, on the bucket path, the number of buckets.
+         * 
+         * @return The details of the most recent run
+         */
+        @Override
+        public Map<String, String> getLastRunDetails() {
+            return Collections.unmodifiableMap(lastRunDetails);
+        }
+        
+        @Override
+        public String getName() {
+            return "Counting Sort";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Finds the key range in one pass and counts occurrences of each key when the range is small relative to the input; otherwise it distributes keys into value buckets and sorts each bucket.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n + k) for key range k, O(n log n) worst case on the bucket path";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(k) counting, O(n) bucket";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
+    
+    /**
+     * Block Quick Sort implementation with branch-free kernels.
+     * Partitions in blocks: the comparisons of a block only record the offsets of misplaced
+     * elements, without branching on the outcome, and the misplaced elements are then swapped
+     * in pairs. Ranges of up to sixteen elements are sorted with a bitonic sorting network of
+     * min/max compare-exchanges, so neither step pays for mispredicted branches on random data.
+     */
+    public static class BlockQuickSort implements InPlaceSort {
+        
+        /** Number of elements whose comparisons are recorded before any swaps are made. */
+        private static final int BLOCK_SIZE = 128;
+        
+        /** Width of the sorting network; ranges up to this size are sorted with it. */
+        private static final int NETWORK_SIZE = 16;
+        
+        /** Ranges larger than this use a ninther (median of medians of three) pivot. */
+        private static final int NINTHER_THRESHOLD = 128;
+        
+        /** Index pairs of the bitonic sorting network, in the order they are compare-exchanged. */
+        private static final int[] NETWORK = buildBitonicNetwork(NETWORK_SIZE);
+        
+        private final PatternDefeatingQuickSort fallback = new PatternDefeatingQuickSort();
+        
+        /**
+         * Sorts a range of an array in place using Block Quick Sort algorithm.
+         * 
+         * @param arr The array containing the range to be sorted
+         * @param from The starting index (inclusive)
+         * @param to The ending index (exclusive)
+         */
+        @Override
+        public void sortInPlace(int[] arr, int from, int to) {
+            if (to - from > 1) {
+                Scratch scratch = new Scratch();
+                blockQuickSort(arr, from, to, 2 * log2(to - from), scratch);
+            }
+        }
+        
+        /**
+         * Sorts arr[begin, end). Recurses into the smaller partition and loops on the
+         * larger one, handing ranges that exhaust the depth budget to Pattern-Defeating Quick Sort.
+         * 
+         * @param arr The array to be sorted
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         * @param depthAllowed The number of partitioning levels allowed before falling back
+         * @param scratch The offset buffers and network registers of this sort
+         */
+        private void blockQuickSort(int[] arr, int begin, int end, int depthAllowed, Scratch scratch) {
+            while (end - begin > NETWORK_SIZE) {
+                if (depthAllowed-- == 0) {
+                    fallback.sortInPlace(arr, begin, end);
+                    return;
+                }
+                
+                // Choose the pivot and move it to arr[begin]
+                int size = end - begin;
+                int half = size / 2;
+                if (size > NINTHER_THRESHOLD) {
+                    sort3(arr, begin, begin + half, end - 1);
+                    sort3(arr, begin + 1, begin + half - 1, end - 2);
+                    sort3(arr, begin + 2, begin + half + 1, end - 3);
+                    sort3(arr, begin + half - 1, begin + half, begin + half + 1);
+                    swap(arr, begin, begin + half);
+                } else {
+                    sort3(arr, begin + half, begin, end - 1);
+                }
+                
+                int pivotPos = blockPartition(arr, begin, end, scratch);
+                
+                if (pivotPos - begin < end - pivotPos) {
+                    blockQuickSort(arr, begin, pivotPos, depthAllowed, scratch);
+                    begin = pivotPos + 1;
+                } else {
+                    blockQuickSort(arr, pivotPos + 1, end, depthAllowed, scratch);
+                    end = pivotPos;
+                }
+            }
+            
+            networkSort(arr, begin, end, scratch.network);
+        }
+        
+        /**
+         * Partitions arr[begin, end) around the pivot at arr[begin]. Elements equal to the
+         * pivot may end up on either side, which keeps partitions of duplicate keys balanced.
+         * 
+         * @param arr The array to be partitioned
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         * @param scratch The offset buffers of this sort
+         * @return The final pivot position
+         */
+        private int blockPartition(int[] arr, int begin, int end, Scratch scratch) {
+            int pivot = arr[begin];
+            int[] offsetsLeft = scratch.offsetsLeft;
+            int[] offsetsRight = scratch.offsetsRight;
+            
+            // arr[begin + 1, left) is <= pivot and arr(right, end - 1] is >= pivot
+            int left = begin + 1;
+            int right = end - 1;
+            int numLeft = 0;
+            int numRight = 0;
+            int startLeft = 0;
+            int startRight = 0;
+            
+            while (right - left + 1 > 2 * BLOCK_SIZE) {
+                // Record misplaced elements of the next block on each side; the comparison
+                // result only feeds the counter, so the loop body has no data-dependent branch
+                if (numLeft == 0) {
+                    startLeft = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsLeft[numLeft] = i;
+                        numLeft += arr[left + i] >= pivot ? 1 : 0;
+                    }
+                }
+                if (numRight == 0) {
+                    startRight = 0;
+                    for (int i = 0; i < BLOCK_SIZE; i++) {
+                        offsetsRight[numRight] = i;
+                        numRight += arr[right - i] <= pivot ? 1 : 0;
+                    }
+                }
+                
+                int count = Math.min(numLeft, numRight);
+                for (int i = 0; i < count; i++) {
+                    swap(arr, left + offsetsLeft[startLeft + i], right - offsetsRight[startRight + i]);
+                }
+                
+                numLeft -= count;
+                numRight -= count;
+                startLeft += count;
+                startRight += count;
+                
+                // A block is finished once all of its misplaced elements have been swapped
+                if (numLeft == 0) {
+                    left += BLOCK_SIZE;
+                }
+                if (numRight == 0) {
+                    right -= BLOCK_SIZE;
+                }
+            }
+            
+            // Partition the remaining elements, including any partly processed block, with Hoare's scheme
+            int i = left;
+            int j = right;
+            while (true) {
+                while (i <= j && arr[i] < pivot) {
+                    i++;
+                }
+                while (i <= j && arr[j] > pivot) {
+                    j--;
+                }
+                if (i >= j) {
+                    break;
+                }
+                swap(arr, i, j);
+                i++;
+                j--;
+            }
+            
+            // Both scans stop on the same index only if it holds a pivot-equal element
+            int pivotPos = i == j ? i : i - 1;
+            arr[begin] = arr[pivotPos];
+            arr[pivotPos] = pivot;
+            
+            return pivotPos;
+        }
+        
+        /**
+         * Sorts a range of at most NETWORK_SIZE elements with the bitonic sorting network.
+         * The range is copied into the network registers and padded with Integer.MAX_VALUE,
+         * which sorts behind every real element.
+         * 
+         * @param arr The array to be sorted
+         * @param begin The starting index (inclusive)
+         * @param end The ending index (exclusive)
+         * @param network The network registers
+         */
+        private void networkSort(int[] arr, int begin, int end, int[] network) {
+            int n = end - begin;
+            if (n < 2) {
+                return;
+            }
+            
+            System.arraycopy(arr, begin, network, 0, n);
+            Arrays.fill(network, n, NETWORK_SIZE, Integer.MAX_VALUE);
+            
+            for (int p = 0; p < NETWORK.length; p += 2) {
+                int i = NETWORK[p];
+                int j = NETWORK[p + 1];
+                int a = network[i];
+                int b = network[j];
+                network[i] = Math.min(a, b);
+                network[j] = Math.max(a, b);
+            }
+            
+            System.arraycopy(network, 0, arr, begin, n);
+        }
+        
+        /**
+         * Builds the compare-exchange sequence of a bitonic sorting network. Each pair (i, j)
+         * means that the smaller of the two elements goes to index i.
+         * 
+         * @param size The number of inputs, a power of two
+         * @return The flattened index pairs
+         */
+        private static int[] buildBitonicNetwork(int size) {
+            int log = 31 - Integer.numberOfLeadingZeros(size);
+            int[] pairs = new int[size / 2 * log * (log + 1)];
+            int count = 0;
+            
+            for (int k = 2; k <= size; k <<= 1) {
+                for (int j = k >> 1; j > 0; j >>= 1) {
+                    for (int i = 0; i < size; i++) {
+                        int partner = i ^ j;
+                        if (partner > i) {
+                            // Sequences that are sorted descending within a merge stage swap their order
+                            boolean ascending = (i & k) == 0;
+                            pairs[count++] = ascending ? i : partner;
+                            pairs[count++] = ascending ? partner : i;
+                        }
+                    }
+                }
+            }
+            
+            return pairs;
+        }
+        
+        /**
+         * Orders three elements so that arr[i] <= arr[j] <= arr[k] using min/max compare-exchanges.
+         * 
+         * @param arr The array
+         * @param i The first index
+         * @param j The second index
+         * @param k The third index
+         */
+        private void sort3(int[] arr, int i, int j, int k) {
+            compareExchange(arr, i, j);
+            compareExchange(arr, j, k);
+            compareExchange(arr, i, j);
+        }
+        
+        /**
+         * Orders two elements so that arr[i] <= arr[j] without branching on their values.
+         * 
+         * @param arr The array
+         * @param i The first index
+         * @param j The second index
+         */
+        private void compareExchange(int[] arr, int i, int j) {
+            int a = arr[i];
+            int b = arr[j];
+            arr[i] = Math.min(a, b);
+            arr[j] = Math.max(a, b);
+        }
+        
+        /**
+         * Swaps two elements of an array.
+         * 
+         * @param arr The array
+         * @param i The first index
+         * @param j The second index
+         */
+        private void swap(int[] arr, int i, int j) {
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        
+        /**
+         * Computes the floor of the base-2 logarithm of a positive number.
+         * 
+         * @param n The number
+         * @return The floor of log2(n)
+         */
+        private int log2(int n) {
+            return 31 - Integer.numberOfLeadingZeros(n);
+        }
+        
+        /**
+         * Buffers allocated once per sort and shared by every partitioning step.
+         */
+        private static class Scratch {
+            final int[] offsetsLeft = new int[BLOCK_SIZE];
+            final int[] offsetsRight = new int[BLOCK_SIZE];
+            final int[] network = new int[NETWORK_SIZE];
+        }
+        
+        @Override
+        public String getName() {
+            return "Block Quick Sort (branchless)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "A quicksort whose partition step records misplaced elements of 128-element blocks without branching and then swaps them in pairs, and which sorts ranges of up to sixteen elements with a bitonic min/max sorting network, avoiding branch mispredictions on random data.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n log n) average and worst case (depth-limited)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(log n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SORTING;
+        }
+    }
 }
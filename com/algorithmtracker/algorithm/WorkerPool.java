@@ -0,0 +1,44 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A fork/join pool shared by the runs of one parallel algorithm instance. The pool is
+ * created on first use, so that unused instances hold no threads, and is recreated on
+ * the next use after it has been shut down.
+ */
+final class WorkerPool {
+    private final int parallelism;
+    private ForkJoinPool pool;
+    
+    /**
+     * Constructs a worker pool.
+     * 
+     * @param parallelism The number of worker threads
+     */
+    WorkerPool(int parallelism) {
+        this.parallelism = parallelism;
+    }
+    
+    /**
+     * Gets the fork/join pool, creating it if it is not running.
+     * 
+     * @return The fork/join pool
+     */
+    synchronized ForkJoinPool get() {
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism);
+        }
+        return pool;
+    }
+    
+    /**
+     * Shuts down the fork/join pool, if it is running. Tasks already submitted still complete.
+     */
+    synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.algorithmtracker.data;
 
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
 import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Random;
 
@@ -57,6 +63,24 @@ public class TestDataGenerator {
         return array;
     }
     
+    /**
+     * Generates a random integer array whose values are concentrated near the minimum,
+     * following the eighth power of a uniform variable. Useful for testing algorithms
+     * that assume evenly spread keys.
+     * 
+     * @param size The size of the array
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (exclusive)
+     * @return The generated array
+     */
+    public int[] generateSkewedIntArray(int size, int min, int max) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = min + (int) (Math.pow(random.nextDouble(), 8) * (max - min));
+        }
+        return array;
+    }
+    
     /**
      * Generates a nearly sorted integer array of the specified size.
      * 
@@ -184,4 +208,104 @@ public class TestDataGenerator {
         
         return array;
     }
+    
+    /**
+     * Writes a file of random 32-bit big-endian integers without holding them in memory,
+     * for testing algorithms on datasets larger than the heap.
+     * 
+     * @param file The file to write; replaced if it exists
+     * @param count The number of integers to write
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (exclusive)
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeRandomIntFile(Path file, long count, int min, int max) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            for (long i = 0; i < count; i++) {
+                out.writeInt(random.nextInt(max - min) + min);
+            }
+        }
+    }
+    
+    /**
+     * Writes a file of sorted 32-bit big-endian integers without holding them in memory.
+     * The range is divided into one equal slot per integer and each integer is drawn from
+     * its own slot, so the values are ascending and evenly spread.
+     * 
+     * @param file The file to write; replaced if it exists
+     * @param count The number of integers to write
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (exclusive)
+     * @throws IOException If an I/O error occurs
+     */
+    public void writeSortedIntFile(Path file, long count, int min, int max) throws IOException {
+        double slot = ((double) max - min) / Math.max(count, 1);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            for (long i = 0; i < count; i++) {
+                out.writeInt((int) (min + (long) ((i + random.nextDouble()) * slot)));
+            }
+        }
+    }
+    
+    /**
+     * Generates a random graph in compressed sparse row form, with the same structure as
+     * generateRandomGraph: a path through all vertices plus random edges without self-loops
+     * or duplicates. Edges are handled as packed longs and no Edge objects are created, so
+     * graphs with tens of millions of edges can be generated. Each vertex's edges are
+     * ordered by destination.
+     * 
+     * @param vertices The number of vertices
+     * @param edges The number of edges
+     * @param maxWeight The maximum weight of an edge
+     * @return The generated graph
+     */
+    public CsrGraph generateRandomCsrGraph(int vertices, int edges, int maxWeight) {
+        int pathEdges = Math.max(0, vertices - 1);
+        int target = Math.max(edges, pathEdges);
+        
+        // Each edge is packed as source << 32 | destination, so sorting groups edges by source
+        long[] packed = new long[target];
+        for (int i = 0; i < pathEdges; i++) {
+            packed[i] = (long) i << 32 | (i + 1);
+        }
+        
+        int count = pathEdges;
+        long attempts = 0;
+        long maxAttempts = (long) (target - pathEdges) * 10; // Avoid infinite loop
+        
+        while (count < target && attempts < maxAttempts && vertices > 1) {
+            // Fill the shortfall with candidates, then drop duplicates by sorting
+            for (int i = count; i < target; i++) {
+                int source = random.nextInt(vertices);
+                int destination = random.nextInt(vertices - 1);
+                if (destination >= source) {
+                    destination++; // Skip the source to avoid self-loops
+                }
+                packed[i] = (long) source << 32 | destination;
+            }
+            attempts += target - count;
+            
+            Arrays.sort(packed, 0, target);
+            count = 0;
+            for (int i = 0; i < target; i++) {
+                if (i == 0 || packed[i] != packed[i - 1]) {
+                    packed[count++] = packed[i];
+                }
+            }
+        }
+        
+        int[] offsets = new int[vertices + 1];
+        int[] targets = new int[count];
+        int[] weights = new int[count];
+        for (int i = 0; i < count; i++) {
+            offsets[(int) (packed[i] >>> 32) + 1]++;
+            targets[i] = (int) packed[i];
+            weights[i] = random.nextInt(maxWeight) + 1;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        
+        return new CsrGraph(offsets, targets, weights);
+    }
 }
@@ -3,7 +3,10 @@ package com.algorithmtracker.performance;
 import com.algorithmtracker.algorithm.Algorithm;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Tracks and compares the performance of algorithms.
@@ -17,6 +20,9 @@ public class PerformanceTracker {
         private Algorithm algorithm;
         private double executionTime;
         private int inputSize;
+        private double buildTime = -1;
+        private double queryTime = -1;
+        private Map<String, String> details = new LinkedHashMap<>();
         
         /**
          * Constructs a performance result.
@@ -57,6 +63,71 @@ public class PerformanceTracker {
         public int getInputSize() {
             return inputSize;
         }
+        
+        /**
+         * Sets the time spent building an index before the queries, kept apart from the
+         * execution time so the one-off cost can be weighed against the per-query cost.
+         * 
+         * @param buildTime The build time in milliseconds
+         */
+        public void setBuildTime(double buildTime) {
+            this.buildTime = buildTime;
+        }
+        
+        /**
+         * Gets the time spent building an index before the queries.
+         * 
+         * @return The build time in milliseconds, or -1 if the run had no build phase
+         */
+        public double getBuildTime() {
+            return buildTime;
+        }
+        
+        /**
+         * Sets the average cost of one query, excluding any build phase.
+         * 
+         * @param queryTime The time per query in nanoseconds
+         */
+        public void setQueryTime(double queryTime) {
+            this.queryTime = queryTime;
+        }
+        
+        /**
+         * Gets the average cost of one query, excluding any build phase.
+         * 
+         * @return The time per query in nanoseconds, or -1 if it was not measured
+         */
+        public double getQueryTime() {
+            return queryTime;
+        }
+        
+        /**
+         * Adds a detail about the run, such as the code path taken or a derived metric.
+         * 
+         * @param name The detail name
+         * @param value The detail value
+         */
+        public void addDetail(String name, String value) {
+            details.put(name, value);
+        }
+        
+        /**
+         * Adds several details about the run.
+         * 
+         * @param runDetails The details to add, in display order
+         */
+        public void addDetails(Map<String, String> runDetails) {
+            details.putAll(runDetails);
+        }
+        
+        /**
+         * Gets the details recorded for the run.
+         * 
+         * @return An unmodifiable, ordered map of detail names to values
+         */
+        public Map<String, String> getDetails() {
+            return Collections.unmodifiableMap(details);
+        }
     }
     
     /**
@@ -111,6 +182,32 @@ public class PerformanceTracker {
         return sum / algorithmResults.size();
     }
     
+    /**
+     * Computes how many queries it takes for an algorithm that builds an index to become
+     * cheaper overall than a baseline, given the build and per-query times of both results.
+     * 
+     * @param indexed The result of the algorithm with a build phase
+     * @param baseline The result of the baseline, such as Binary Search
+     * @return The smallest number of queries at which the indexed algorithm is no more
+     *         expensive, or -1 if it never is or the times were not recorded
+     */
+    public long getBreakEvenQueryCount(PerformanceResult indexed, PerformanceResult baseline) {
+        if (indexed.getQueryTime() < 0 || baseline.getQueryTime() < 0) {
+            return -1;
+        }
+        
+        double extraBuildNs = (Math.max(indexed.getBuildTime(), 0) - Math.max(baseline.getBuildTime(), 0)) * 1_000_000.0;
+        double savedPerQueryNs = baseline.getQueryTime() - indexed.getQueryTime();
+        
+        if (extraBuildNs <= 0) {
+            return savedPerQueryNs >= 0 ? 0 : -1;
+        }
+        if (savedPerQueryNs <= 0) {
+            return -1;
+        }
+        return (long) Math.ceil(extraBuildNs / savedPerQueryNs);
+    }
+    
     /**
      * Gets the fastest algorithm for a specific input size.
      * 
@@ -122,19 +122,20 @@ public class ResultManager {
         
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
             // Write header
-            writer.write("Algorithm,Category,Input Size,Execution Time (ms),Time Complexity,Space Complexity");
+            writer.write("Algorithm,Category,Input Size,Execution Time (ms),Time Complexity,Space Complexity,Details");
             writer.newLine();
             
             // Write data
             for (PerformanceResult result : sessionData) {
                 Algorithm algorithm = result.getAlgorithm();
-                writer.write(String.format("%s,%s,%d,%.3f,%s,%s",
-                        algorithm.getName(),
+                writer.write(String.format("%s,%s,%d,%.3f,%s,%s,%s",
+                        escapeCSV(algorithm.getName()),
                         algorithm.getCategory().getDisplayName(),
                         result.getInputSize(),
                         result.getExecutionTime(),
-                        algorithm.getTimeComplexity(),
-                        algorithm.getSpaceComplexity()));
+                        escapeCSV(algorithm.getTimeComplexity()),
+                        escapeCSV(algorithm.getSpaceComplexity()),
+                        escapeCSV(formatDetails(result))));
                 writer.newLine();
             }
         }
@@ -155,7 +156,7 @@ public class ResultManager {
         
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
             // Write header
-            writer.write("Session,Algorithm,Category,Input Size,Execution Time (ms),Time Complexity,Space Complexity");
+            writer.write("Session,Algorithm,Category,Input Size,Execution Time (ms),Time Complexity,Space Complexity,Details");
             writer.newLine();
             
             // Write data for each session
@@ -165,20 +166,53 @@ public class ResultManager {
                 
                 for (PerformanceResult result : sessionData) {
                     Algorithm algorithm = result.getAlgorithm();
-                    writer.write(String.format("%s,%s,%s,%d,%.3f,%s,%s",
+                    writer.write(String.format("%s,%s,%s,%d,%.3f,%s,%s,%s",
                             session,
-                            algorithm.getName(),
+                            escapeCSV(algorithm.getName()),
                             algorithm.getCategory().getDisplayName(),
                             result.getInputSize(),
                             result.getExecutionTime(),
-                            algorithm.getTimeComplexity(),
-                            algorithm.getSpaceComplexity()));
+                            escapeCSV(algorithm.getTimeComplexity()),
+                            escapeCSV(algorithm.getSpaceComplexity()),
+                            escapeCSV(formatDetails(result))));
                     writer.newLine();
                 }
             }
         }
     }
     
+    /**
+     * Formats the details of a result as a single field.
+     * 
+     * @param result The performance result
+     * @return The details as "name=value" pairs separated by semicolons
+     */
+    private String formatDetails(PerformanceResult result) {
+        StringBuilder details = new StringBuilder();
+        
+        for (Map.Entry<String, String> entry : result.getDetails().entrySet()) {
+            if (details.length() > 0) {
+                details.append("; ");
+            }
+            details.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        
+        return details.toString();
+    }
+    
+    /**
+     * Quotes a CSV field if it contains a comma, quote, or line break.
+     * 
+     * @param field The field value
+     * @return The field, quoted and with embedded quotes doubled if necessary
+     */
+    private String escapeCSV(String field) {
+        if (field.contains(",") || field.contains("\"") || field.contains("\n")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
+    
     /**
      * Generates a summary of the current session results.
      * 
@@ -2,6 +2,7 @@ package com.algorithmtracker.ui;
 
 import com.algorithmtracker.algorithm.*;
 import com.algorithmtracker.algorithm.Algorithm.AlgorithmCategory;
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
 import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
 import com.algorithmtracker.auth.User;
 import com.algorithmtracker.auth.UserManager;
@@ -11,8 +12,10 @@ import com.algorithmtracker.performance.PerformanceTracker.PerformanceResult;
 import com.algorithmtracker.result.ResultManager;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,19 +33,56 @@ public class ConsoleUI {
     private final SortingAlgorithms.InsertionSort insertionSort = new SortingAlgorithms.InsertionSort();
     private final SortingAlgorithms.SelectionSort selectionSort = new SortingAlgorithms.SelectionSort();
     private final SortingAlgorithms.MergeSort mergeSort = new SortingAlgorithms.MergeSort();
+    private final SortingAlgorithms.ParallelMergeSort parallelMergeSort = new SortingAlgorithms.ParallelMergeSort();
     private final SortingAlgorithms.QuickSort quickSort = new SortingAlgorithms.QuickSort();
+    private final SortingAlgorithms.PatternDefeatingQuickSort pdqSort = new SortingAlgorithms.PatternDefeatingQuickSort();
+    private final SortingAlgorithms.AdaptiveMergeSort adaptiveMergeSort = new SortingAlgorithms.AdaptiveMergeSort();
+    private final SortingAlgorithms.CountingSort countingSort = new SortingAlgorithms.CountingSort();
+    private final SortingAlgorithms.BlockQuickSort blockQuickSort = new SortingAlgorithms.BlockQuickSort();
+    private final RadixSortingAlgorithms.LsdRadixSort lsdRadixSort8 = new RadixSortingAlgorithms.LsdRadixSort(8);
+    private final RadixSortingAlgorithms.LsdRadixSort lsdRadixSort11 = new RadixSortingAlgorithms.LsdRadixSort(11);
+    private final RadixSortingAlgorithms.MsdRadixSort msdRadixSort = new RadixSortingAlgorithms.MsdRadixSort();
+    private final RadixSortingAlgorithms.ParallelLsdRadixSort parallelLsdRadixSort = new RadixSortingAlgorithms.ParallelLsdRadixSort();
     
     private final SearchingAlgorithms.LinearSearch linearSearch = new SearchingAlgorithms.LinearSearch();
     private final SearchingAlgorithms.BinarySearch binarySearch = new SearchingAlgorithms.BinarySearch();
+    private final SearchingAlgorithms.BranchlessBinarySearch branchlessBinarySearch = new SearchingAlgorithms.BranchlessBinarySearch();
+    private final SearchingAlgorithms.EytzingerSearch eytzingerSearch = new SearchingAlgorithms.EytzingerSearch();
+    private final SearchingAlgorithms.SortedMergeSearch sortedMergeSearch = new SearchingAlgorithms.SortedMergeSearch();
+    private final SearchingAlgorithms.InterleavedBinarySearch interleavedBinarySearch = new SearchingAlgorithms.InterleavedBinarySearch();
+    private final SearchingAlgorithms.InterpolationSearch interpolationSearch = new SearchingAlgorithms.InterpolationSearch();
+    private final SearchingAlgorithms.ExponentialSearch exponentialSearch = new SearchingAlgorithms.ExponentialSearch();
+    private final SearchingAlgorithms.BlockLinearSearch blockLinearSearch = new SearchingAlgorithms.BlockLinearSearch();
+    private final SearchingAlgorithms.ParallelLinearSearch parallelLinearSearch = new SearchingAlgorithms.ParallelLinearSearch();
+    private final SearchingAlgorithms.StaticBTreeSearch staticBTreeSearch = new SearchingAlgorithms.StaticBTreeSearch();
+    private final SearchingAlgorithms.HashIndexSearch hashIndexSearch = new SearchingAlgorithms.HashIndexSearch();
+    private final SearchingAlgorithms.HashIndexSearch bloomHashIndexSearch = new SearchingAlgorithms.HashIndexSearch(true);
+    private final SearchingAlgorithms.LearnedIndexSearch learnedIndexSearch = new SearchingAlgorithms.LearnedIndexSearch();
+    
+    private final SelectionAlgorithms.QuickSelect quickSelect = new SelectionAlgorithms.QuickSelect();
+    private final SelectionAlgorithms.MedianOfMedians medianOfMedians = new SelectionAlgorithms.MedianOfMedians();
+    private final SelectionAlgorithms.FloydRivest floydRivest = new SelectionAlgorithms.FloydRivest();
+    private final SelectionAlgorithms.HeapTopK heapTopK = new SelectionAlgorithms.HeapTopK();
+    private final SelectionAlgorithms.FullSortSelection fullSortSelection = new SelectionAlgorithms.FullSortSelection(quickSort);
     
     private final GraphAlgorithms.DepthFirstSearch dfs = new GraphAlgorithms.DepthFirstSearch();
+    private final GraphAlgorithms.IterativeDepthFirstSearch iterativeDfs = new GraphAlgorithms.IterativeDepthFirstSearch();
     private final GraphAlgorithms.BreadthFirstSearch bfs = new GraphAlgorithms.BreadthFirstSearch();
+    private final GraphAlgorithms.PrimitiveBreadthFirstSearch primitiveBfs = new GraphAlgorithms.PrimitiveBreadthFirstSearch();
+    private final GraphAlgorithms.DirectionOptimizingBreadthFirstSearch directionOptimizingBfs = new GraphAlgorithms.DirectionOptimizingBreadthFirstSearch();
+    private final GraphAlgorithms.ParallelBreadthFirstSearch parallelBfs = new GraphAlgorithms.ParallelBreadthFirstSearch();
     private final GraphAlgorithms.DijkstraAlgorithm dijkstra = new GraphAlgorithms.DijkstraAlgorithm();
+    private final GraphAlgorithms.HeapDijkstraAlgorithm heapDijkstra = new GraphAlgorithms.HeapDijkstraAlgorithm();
+    private final GraphAlgorithms.LazyHeapDijkstraAlgorithm lazyHeapDijkstra = new GraphAlgorithms.LazyHeapDijkstraAlgorithm();
     
     // Constants for performance measurement
     private static final int SORTING_RUNS = 10;
     private static final int SEARCHING_RUNS = 100;
     private static final int GRAPH_RUNS = 10;
+    private static final int RANDOM_QUERIES = 10_000;
+    private static final long RANDOM_QUERY_BUDGET_NS = 200_000_000L;
+    private static final int BATCH_QUERIES = 1_000;
+    private static final int[] LEARNED_INDEX_ERROR_BOUNDS = {8, 32, 128};
     
     /**
      * Constructs a ConsoleUI instance.
@@ -232,12 +272,24 @@ public class ConsoleUI {
             System.out.println("3. Selection Sort");
             System.out.println("4. Merge Sort");
             System.out.println("5. Quick Sort");
+            System.out.println("6. Parallel Merge Sort");
+            System.out.println("7. Pattern-Defeating Quick Sort");
+            System.out.println("8. LSD Radix Sort (8-bit digits)");
+            System.out.println("9. LSD Radix Sort (11-bit digits)");
+            System.out.println("10. MSD Radix Sort (American Flag)");
+            System.out.println("11. Parallel LSD Radix Sort");
+            System.out.println("12. Adaptive Merge Sort (TimSort)");
+            System.out.println("13. Counting Sort");
+            System.out.println("14. Block Quick Sort (branchless)");
+            System.out.println("15. External Merge Sort (file)");
             System.out.println("0. Back to Main Menu");
             
             int choice = getIntInput("Enter your choice: ");
             
-            if (choice >= 1 && choice <= 5) {
+            if (choice >= 1 && choice <= 14) {
                 runSortingAlgorithm(choice);
+            } else if (choice == 15) {
+                runExternalSort();
             } else if (choice == 0) {
                 back = true;
             } else {
@@ -297,47 +349,68 @@ public class ConsoleUI {
         
         System.out.println("\nOriginal array: " + Arrays.toString(array));
         
-        Algorithm algorithm;
-        Function<int[], int[]> sortFunction;
+        InPlaceSort algorithm;
         
         switch (choice) {
             case 1:
                 algorithm = bubbleSort;
-                sortFunction = bubbleSort::sort;
                 break;
             case 2:
                 algorithm = insertionSort;
-                sortFunction = insertionSort::sort;
                 break;
             case 3:
                 algorithm = selectionSort;
-                sortFunction = selectionSort::sort;
                 break;
             case 4:
                 algorithm = mergeSort;
-                sortFunction = mergeSort::sort;
                 break;
             case 5:
                 algorithm = quickSort;
-                sortFunction = quickSort::sort;
+                break;
+            case 6:
+                algorithm = parallelMergeSort;
+                break;
+            case 7:
+                algorithm = pdqSort;
+                break;
+            case 8:
+                algorithm = lsdRadixSort8;
+                break;
+            case 9:
+                algorithm = lsdRadixSort11;
+                break;
+            case 10:
+                algorithm = msdRadixSort;
+                break;
+            case 11:
+                algorithm = parallelLsdRadixSort;
+                break;
+            case 12:
+                algorithm = adaptiveMergeSort;
+                break;
+            case 13:
+                algorithm = countingSort;
+                break;
+            case 14:
+                algorithm = blockQuickSort;
                 break;
             default:
                 System.out.println("Invalid choice. Using Bubble Sort.");
                 algorithm = bubbleSort;
-                sortFunction = bubbleSort::sort;
         }
         
         // Warm-up run to avoid JVM optimization effects
-        sortFunction.apply(Arrays.copyOf(array, array.length));
+        algorithm.sort(array);
         
-        // Run multiple times to get a more accurate measurement
+        // Run multiple times to get a more accurate measurement.
+        // Each run sorts a fresh copy in place so only the algorithm itself is timed.
         long totalTime = 0;
         int[] sorted = null;
         
         for (int i = 0; i < SORTING_RUNS; i++) {
-            int[] arrayCopy = Arrays.copyOf(array, array.length);
+            sorted = Arrays.copyOf(array, array.length);
             long startTime = System.nanoTime();
-            sorted = sortFunction.apply(arrayCopy);
+            algorithm.sortInPlace(sorted, 0, sorted.length);
             long endTime = System.nanoTime();
             totalTime += (endTime - startTime);
         }
@@ -351,8 +424,59 @@ public class ConsoleUI {
         
         // Add result to performance tracker
         PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, array.length);
+        recordRunDetails(algorithm, result);
         performanceTracker.addResult(result);
         resultManager.addResult(result);
+        printRunDetails(result);
+        
+        System.out.println("\nAlgorithm: " + algorithm.getName());
+        System.out.println("Description: " + algorithm.getDescription());
+        System.out.println("Time Complexity: " + algorithm.getTimeComplexity());
+        System.out.println("Space Complexity: " + algorithm.getSpaceComplexity());
+    }
+    
+    /**
+     * Runs the external merge sort on a generated temporary file of random integers.
+     * The file is sorted once, since a single run is dominated by disk I/O.
+     */
+    private void runExternalSort() {
+        int count = getIntInput("Enter number of integers to write: ");
+        int chunkSize = getIntInput("Enter chunk size (integers sorted in memory per run): ");
+        
+        if (count < 0 || chunkSize < 1) {
+            System.out.println("Invalid sizes. Please try again.");
+            return;
+        }
+        
+        ExternalMergeSort algorithm = new ExternalMergeSort(pdqSort, chunkSize, ExternalMergeSort.DEFAULT_MERGE_FACTOR);
+        Path input = null;
+        Path output = null;
+        
+        try {
+            input = Files.createTempFile("algorithm-tracker-input", ".bin");
+            output = Files.createTempFile("algorithm-tracker-sorted", ".bin");
+            
+            System.out.println("Writing " + count + " random integers to " + input + "...");
+            dataGenerator.writeRandomIntFile(input, count, -1_000_000_000, 1_000_000_000);
+            
+            long startTime = System.nanoTime();
+            algorithm.sort(input, output);
+            long endTime = System.nanoTime();
+            double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            
+            System.out.println("Execution time: " + String.format("%.3f", executionTimeMs) + " ms");
+            
+            PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, count);
+            recordRunDetails(algorithm, result);
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+            printRunDetails(result);
+        } catch (IOException e) {
+            System.out.println("Error running external sort: " + e.getMessage());
+        } finally {
+            deleteQuietly(input);
+            deleteQuietly(output);
+        }
         
         System.out.println("\nAlgorithm: " + algorithm.getName());
         System.out.println("Description: " + algorithm.getDescription());
@@ -360,6 +484,22 @@ public class ConsoleUI {
         System.out.println("Space Complexity: " + algorithm.getSpaceComplexity());
     }
     
+    /**
+     * Deletes a temporary file, ignoring errors.
+     * 
+     * @param file The file to delete, or null
+     */
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.out.println("Could not delete temporary file " + file + ": " + e.getMessage());
+        }
+    }
+    
     /**
      * Displays the searching algorithms menu.
      */
@@ -370,12 +510,27 @@ public class ConsoleUI {
             System.out.println("\nSEARCHING ALGORITHMS");
             System.out.println("1. Linear Search");
             System.out.println("2. Binary Search");
+            System.out.println("3. Branchless Binary Search");
+            System.out.println("4. Eytzinger Search");
+            System.out.println("5. Sorted Merge Search (batch)");
+            System.out.println("6. Interleaved Binary Search (batch)");
+            System.out.println("7. Interpolation Search");
+            System.out.println("8. Exponential Search");
+            System.out.println("9. Block Linear Search");
+            System.out.println("10. Parallel Linear Search");
+            System.out.println("11. Static B-Tree Search");
+            System.out.println("12. Hash Index Search");
+            System.out.println("13. Hash Index Search (Bloom filter)");
+            System.out.println("14. Memory-Mapped File Search (file)");
+            System.out.println("15. Learned Index Search");
             System.out.println("0. Back to Main Menu");
             
             int choice = getIntInput("Enter your choice: ");
             
-            if (choice >= 1 && choice <= 2) {
+            if ((choice >= 1 && choice <= 13) || choice == 15) {
                 runSearchingAlgorithm(choice);
+            } else if (choice == 14) {
+                runMappedFileSearch();
             } else if (choice == 0) {
                 back = true;
             } else {
@@ -384,12 +539,120 @@ public class ConsoleUI {
         }
     }
     
+    /**
+     * Runs Memory-Mapped File Search on a generated sorted file of random integers,
+     * reporting cold and warm query latency. The file is deleted afterwards.
+     */
+    private void runMappedFileSearch() {
+        int count = getIntInput("Enter number of integers to write: ");
+        
+        if (count < 0) {
+            System.out.println("Invalid size. Please try again.");
+            return;
+        }
+        
+        System.out.println("\nSelect search:");
+        System.out.println("1. Binary Search");
+        System.out.println("2. Interpolation Search");
+        
+        int searchChoice = getIntInput("Enter your choice: ");
+        if (searchChoice != 1 && searchChoice != 2) {
+            System.out.println("Invalid choice. Using Binary Search.");
+        }
+        
+        MappedFileSearch algorithm = new MappedFileSearch(searchChoice == 2);
+        Path file = null;
+        
+        try {
+            file = Files.createTempFile("algorithm-tracker-sorted", ".bin");
+            
+            System.out.println("Writing " + count + " sorted random integers to " + file + "...");
+            dataGenerator.writeSortedIntFile(file, count, -1_000_000_000, 1_000_000_000);
+            
+            int[] queries = dataGenerator.generateRandomIntArray(RANDOM_QUERIES, -1_000_000_000, 1_000_000_000);
+            
+            long startTime = System.nanoTime();
+            long[] positions = algorithm.searchAll(file, queries);
+            long endTime = System.nanoTime();
+            double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            
+            long found = Arrays.stream(positions).filter(position -> position >= 0).count();
+            System.out.println("Found " + found + " of " + queries.length + " random queries.");
+            System.out.println("Execution time: " + String.format("%.3f", executionTimeMs) + " ms");
+            
+            PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, count);
+            recordRunDetails(algorithm, result);
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+            printRunDetails(result);
+        } catch (IOException e) {
+            System.out.println("Error running memory-mapped file search: " + e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+        
+        System.out.println("\nAlgorithm: " + algorithm.getName());
+        System.out.println("Description: " + algorithm.getDescription());
+        System.out.println("Time Complexity: " + algorithm.getTimeComplexity());
+        System.out.println("Space Complexity: " + algorithm.getSpaceComplexity());
+    }
+    
     /**
      * Runs a searching algorithm based on the user's choice.
      * 
      * @param choice The algorithm choice
      */
     private void runSearchingAlgorithm(int choice) {
+        SearchAlgorithm algorithm;
+        
+        switch (choice) {
+            case 1:
+                algorithm = linearSearch;
+                break;
+            case 2:
+                algorithm = binarySearch;
+                break;
+            case 3:
+                algorithm = branchlessBinarySearch;
+                break;
+            case 4:
+                algorithm = eytzingerSearch;
+                break;
+            case 5:
+                algorithm = sortedMergeSearch;
+                break;
+            case 6:
+                algorithm = interleavedBinarySearch;
+                break;
+            case 7:
+                algorithm = interpolationSearch;
+                break;
+            case 8:
+                algorithm = exponentialSearch;
+                break;
+            case 9:
+                algorithm = blockLinearSearch;
+                break;
+            case 10:
+                algorithm = parallelLinearSearch;
+                break;
+            case 11:
+                algorithm = staticBTreeSearch;
+                break;
+            case 12:
+                algorithm = hashIndexSearch;
+                break;
+            case 13:
+                algorithm = bloomHashIndexSearch;
+                break;
+            case 15:
+                algorithm = learnedIndexSearch;
+                break;
+            default:
+                System.out.println("Invalid choice. Using Linear Search.");
+                algorithm = linearSearch;
+        }
+        
         System.out.println("\nSelect input type:");
         System.out.println("1. Random array");
         System.out.println("2. Custom input");
@@ -401,24 +664,22 @@ public class ConsoleUI {
             int size = getIntInput("Enter array size: ");
             array = dataGenerator.generateRandomIntArray(size, 0, 1000);
             
-            // For binary search, the array needs to be sorted
-            if (choice == 2) {
+            // Some algorithms need the array to be sorted
+            if (algorithm.requiresSortedInput()) {
                 Arrays.sort(array);
             }
         } else if (inputChoice == 2) {
             array = getCustomIntArray();
             
-            // For binary search, the array needs to be sorted
-            if (choice == 2) {
+            if (algorithm.requiresSortedInput()) {
                 Arrays.sort(array);
-                System.out.println("Array has been sorted for binary search: " + Arrays.toString(array));
+                System.out.println("Array has been sorted for " + algorithm.getName() + ": " + Arrays.toString(array));
             }
         } else {
             System.out.println("Invalid choice. Using random array.");
             array = dataGenerator.generateRandomIntArray(10, 0, 100);
             
-            // For binary search, the array needs to be sorted
-            if (choice == 2) {
+            if (algorithm.requiresSortedInput()) {
                 Arrays.sort(array);
             }
         }
@@ -427,50 +688,31 @@ public class ConsoleUI {
         
         int target = getIntInput("Enter the value to search for: ");
         
-        Algorithm algorithm;
-        int result = -1;
-        double executionTimeMs;
+        // Build any index up front so that its cost is reported apart from the queries
+        double buildTimeMs = -1;
+        if (algorithm.buildsIndex()) {
+            long buildStart = System.nanoTime();
+            algorithm.prepare(array);
+            buildTimeMs = (System.nanoTime() - buildStart) / 1_000_000.0;
+        }
         
-        if (choice == 1) {
-            algorithm = linearSearch;
-            
-            // Warm-up run
-            linearSearch.search(array, target);
-            
-            // Run multiple times to get a more accurate measurement
-            long totalTime = 0;
-            
-            for (int i = 0; i < SEARCHING_RUNS; i++) {
-                long startTime = System.nanoTime();
-                result = linearSearch.search(array, target);
-                long endTime = System.nanoTime();
-                totalTime += (endTime - startTime);
-            }
-            
-            // Calculate average execution time in nanoseconds, then convert to milliseconds
-            double executionTimeNs = (double) totalTime / SEARCHING_RUNS;
-            executionTimeMs = executionTimeNs / 1_000_000.0;
-        } else {
-            algorithm = binarySearch;
-            
-            // Warm-up run
-            binarySearch.search(array, target);
-            
-            // Run multiple times to get a more accurate measurement
-            long totalTime = 0;
-            
-            for (int i = 0; i < SEARCHING_RUNS; i++) {
-                long startTime = System.nanoTime();
-                result = binarySearch.search(array, target);
-                long endTime = System.nanoTime();
-                totalTime += (endTime - startTime);
-            }
-            
-            // Calculate average execution time in nanoseconds, then convert to milliseconds
-            double executionTimeNs = (double) totalTime / SEARCHING_RUNS;
-            executionTimeMs = executionTimeNs / 1_000_000.0;
+        // Warm-up run
+        int result = algorithm.search(array, target);
+        
+        // Run multiple times to get a more accurate measurement
+        long totalTime = 0;
+        
+        for (int i = 0; i < SEARCHING_RUNS; i++) {
+            long startTime = System.nanoTime();
+            result = algorithm.search(array, target);
+            long endTime = System.nanoTime();
+            totalTime += (endTime - startTime);
         }
         
+        // Calculate average execution time in nanoseconds, then convert to milliseconds
+        double executionTimeNs = (double) totalTime / SEARCHING_RUNS;
+        double executionTimeMs = executionTimeNs / 1_000_000.0;
+        
         if (result != -1) {
             System.out.println("Element found at index: " + result);
             System.out.println("Value at index " + result + ": " + array[result]);
@@ -479,11 +721,18 @@ public class ConsoleUI {
         }
         
         System.out.println("Execution time: " + String.format("%.3f", executionTimeMs) + " ms");
+        if (buildTimeMs >= 0) {
+            System.out.println("Build time: " + String.format("%.3f", buildTimeMs) + " ms");
+        }
         
         // Add result to performance tracker
         PerformanceResult perfResult = new PerformanceResult(algorithm, executionTimeMs, array.length);
+        perfResult.setBuildTime(buildTimeMs);
+        perfResult.setQueryTime(executionTimeNs);
+        recordRunDetails(algorithm, perfResult);
         performanceTracker.addResult(perfResult);
         resultManager.addResult(perfResult);
+        printRunDetails(perfResult);
         
         System.out.println("\nAlgorithm: " + algorithm.getName());
         System.out.println("Description: " + algorithm.getDescription());
@@ -502,11 +751,18 @@ public class ConsoleUI {
             System.out.println("1. Depth-First Search");
             System.out.println("2. Breadth-First Search");
             System.out.println("3. Dijkstra's Algorithm");
+            System.out.println("4. Dijkstra (indexed 4-ary heap)");
+            System.out.println("5. Dijkstra (lazy binary heap)");
+            System.out.println("6. Depth-First Search (iterative)");
+            System.out.println("7. Breadth-First Search (primitive)");
+            System.out.println("8. Breadth-First Search (direction-optimizing)");
+            System.out.println("9. Parallel BFS (all cores)");
+            System.out.println("10. Delta-Stepping Shortest Paths (all cores)");
             System.out.println("0. Back to Main Menu");
             
             int choice = getIntInput("Enter your choice: ");
             
-            if (choice >= 1 && choice <= 3) {
+            if (choice >= 1 && choice <= 10) {
                 runGraphAlgorithm(choice);
             } else if (choice == 0) {
                 back = true;
@@ -624,13 +880,89 @@ public class ConsoleUI {
                 double executionTimeNs3 = (double) totalTime3 / GRAPH_RUNS;
                 executionTimeMs = executionTimeNs3 / 1_000_000.0;
                 
-                System.out.println("Shortest distances from vertex " + startVertex + ":");
-                for (int i = 0; i < distances.length; i++) {
-                    if (distances[i] == Integer.MAX_VALUE) {
-                        System.out.println("Vertex " + i + ": Infinity (not reachable)");
-                    } else {
-                        System.out.println("Vertex " + i + ": " + distances[i]);
-                    }
+                printDistances(distances, startVertex);
+                break;
+                
+            case 4:
+                algorithm = heapDijkstra;
+                Graph heapGraph = graph;
+                int heapStart = startVertex;
+                executionTimeMs = measureGraphRuns(() -> heapDijkstra.findShortestPaths(heapGraph, heapStart));
+                printDistances(heapDijkstra.findShortestPaths(graph, startVertex), startVertex);
+                break;
+                
+            case 5:
+                algorithm = lazyHeapDijkstra;
+                Graph lazyGraph = graph;
+                int lazyStart = startVertex;
+                executionTimeMs = measureGraphRuns(() -> lazyHeapDijkstra.findShortestPaths(lazyGraph, lazyStart));
+                printDistances(lazyHeapDijkstra.findShortestPaths(graph, startVertex), startVertex);
+                break;
+                
+            case 6:
+                algorithm = iterativeDfs;
+                Graph iterativeGraph = graph;
+                int iterativeStart = startVertex;
+                
+                // Preallocated once, so the measured runs only traverse
+                int[] order = new int[graph.getVertices()];
+                executionTimeMs = measureGraphRuns(() -> iterativeDfs.traverse(iterativeGraph, iterativeStart, order));
+                int visited = iterativeDfs.traverse(graph, startVertex, order);
+                
+                System.out.println("DFS traversal: " + Arrays.toString(Arrays.copyOf(order, visited)));
+                break;
+                
+            case 7:
+                algorithm = primitiveBfs;
+                Graph primitiveGraph = graph;
+                int primitiveStart = startVertex;
+                int[] bfsOrder = new int[graph.getVertices()];
+                int[] levels = new int[graph.getVertices()];
+                executionTimeMs = measureGraphRuns(() -> primitiveBfs.traverse(primitiveGraph, primitiveStart, bfsOrder));
+                int reached = primitiveBfs.traverse(graph, startVertex, bfsOrder, levels, null);
+                
+                System.out.println("BFS traversal: " + Arrays.toString(Arrays.copyOf(bfsOrder, reached)));
+                System.out.println("Levels from vertex " + startVertex + ": " + Arrays.toString(levels));
+                break;
+                
+            case 8:
+                algorithm = directionOptimizingBfs;
+                Graph optimizingGraph = graph;
+                int optimizingStart = startVertex;
+                int[] levelOrder = new int[graph.getVertices()];
+                int[] optimizingLevels = new int[graph.getVertices()];
+                executionTimeMs = measureGraphRuns(() -> directionOptimizingBfs.traverse(optimizingGraph, optimizingStart, levelOrder, null));
+                int levelReached = directionOptimizingBfs.traverse(graph, startVertex, levelOrder, optimizingLevels);
+                
+                System.out.println("BFS traversal (level by level): " + Arrays.toString(Arrays.copyOf(levelOrder, levelReached)));
+                System.out.println("Levels from vertex " + startVertex + ": " + Arrays.toString(optimizingLevels));
+                break;
+                
+            case 9:
+                algorithm = parallelBfs;
+                Graph parallelGraph = graph;
+                int parallelStart = startVertex;
+                int[] parallelOrder = new int[graph.getVertices()];
+                int[] parallelLevels = new int[graph.getVertices()];
+                executionTimeMs = measureGraphRuns(() -> parallelBfs.traverse(parallelGraph, parallelStart, parallelOrder, null));
+                int parallelReached = parallelBfs.traverse(graph, startVertex, parallelOrder, parallelLevels);
+                
+                System.out.println("BFS traversal (level by level): " + Arrays.toString(Arrays.copyOf(parallelOrder, parallelReached)));
+                System.out.println("Levels from vertex " + startVertex + ": " + Arrays.toString(parallelLevels));
+                break;
+                
+            case 10:
+                GraphAlgorithms.DeltaSteppingAlgorithm deltaStepping = new GraphAlgorithms.DeltaSteppingAlgorithm(getDeltaInput());
+                algorithm = deltaStepping;
+                Graph steppingGraph = graph;
+                int steppingStart = startVertex;
+                
+                // A new instance per run, so its worker threads are shut down once it is done
+                try {
+                    executionTimeMs = measureGraphRuns(() -> deltaStepping.findShortestPaths(steppingGraph, steppingStart));
+                    printDistances(deltaStepping.findShortestPaths(graph, startVertex), startVertex);
+                } finally {
+                    deltaStepping.close();
                 }
                 break;
                 
@@ -663,8 +995,10 @@ public class ConsoleUI {
         
         // Add result to performance tracker
         PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, graph.getVertices());
+        recordRunDetails(algorithm, result);
         performanceTracker.addResult(result);
         resultManager.addResult(result);
+        printRunDetails(result);
         
         System.out.println("\nAlgorithm: " + algorithm.getName());
         System.out.println("Description: " + algorithm.getDescription());
@@ -672,6 +1006,23 @@ public class ConsoleUI {
         System.out.println("Space Complexity: " + algorithm.getSpaceComplexity());
     }
     
+    /**
+     * Prints the shortest distances found by a shortest path algorithm.
+     * 
+     * @param distances The distance of each vertex, Integer.MAX_VALUE if it is not reachable
+     * @param startVertex The source vertex
+     */
+    private void printDistances(int[] distances, int startVertex) {
+        System.out.println("Shortest distances from vertex " + startVertex + ":");
+        for (int i = 0; i < distances.length; i++) {
+            if (distances[i] == Integer.MAX_VALUE) {
+                System.out.println("Vertex " + i + ": Infinity (not reachable)");
+            } else {
+                System.out.println("Vertex " + i + ": " + distances[i]);
+            }
+        }
+    }
+    
     /**
      * Displays the compare algorithms menu.
      */
@@ -681,6 +1032,7 @@ public class ConsoleUI {
         System.out.println("1. Sorting Algorithms");
         System.out.println("2. Searching Algorithms");
         System.out.println("3. Graph Algorithms");
+        System.out.println("4. Selection Algorithms");
         
         int categoryChoice = getIntInput("Enter your choice: ");
         
@@ -694,6 +1046,9 @@ public class ConsoleUI {
             case 3:
                 compareGraphAlgorithms();
                 break;
+            case 4:
+                compareSelectionAlgorithms();
+                break;
             default:
                 System.out.println("Invalid choice. Returning to main menu.");
         }
@@ -711,12 +1066,20 @@ public class ConsoleUI {
         System.out.println("3. Selection Sort");
         System.out.println("4. Merge Sort");
         System.out.println("5. Quick Sort");
+        System.out.println("6. Parallel Merge Sort (one run per thread count)");
+        System.out.println("7. Pattern-Defeating Quick Sort");
+        System.out.println("8. LSD Radix Sort (8-bit digits)");
+        System.out.println("9. LSD Radix Sort (11-bit digits)");
+        System.out.println("10. MSD Radix Sort (American Flag)");
+        System.out.println("11. Parallel LSD Radix Sort (one run per thread count)");
+        System.out.println("12. Adaptive Merge Sort (TimSort)");
+        System.out.println("13. Counting Sort");
+        System.out.println("14. Block Quick Sort (branchless)");
         
         String input = scanner.next();
         String[] choices = input.split(",");
         
-        List<Algorithm> algorithms = new ArrayList<>();
-        List<Function<int[], int[]>> functions = new ArrayList<>();
+        List<InPlaceSort> algorithms = new ArrayList<>();
         
         for (String choice : choices) {
             try {
@@ -725,23 +1088,50 @@ public class ConsoleUI {
                 switch (algorithmChoice) {
                     case 1:
                         algorithms.add(bubbleSort);
-                        functions.add(bubbleSort::sort);
                         break;
                     case 2:
                         algorithms.add(insertionSort);
-                        functions.add(insertionSort::sort);
                         break;
                     case 3:
                         algorithms.add(selectionSort);
-                        functions.add(selectionSort::sort);
                         break;
                     case 4:
                         algorithms.add(mergeSort);
-                        functions.add(mergeSort::sort);
                         break;
                     case 5:
                         algorithms.add(quickSort);
-                        functions.add(quickSort::sort);
+                        break;
+                    case 6:
+                        // One instance per thread count so the speedup curve sits next to the serial sorts
+                        for (int threads : getThreadCounts()) {
+                            algorithms.add(new SortingAlgorithms.ParallelMergeSort(threads));
+                        }
+                        break;
+                    case 7:
+                        algorithms.add(pdqSort);
+                        break;
+                    case 8:
+                        algorithms.add(lsdRadixSort8);
+                        break;
+                    case 9:
+                        algorithms.add(lsdRadixSort11);
+                        break;
+                    case 10:
+                        algorithms.add(msdRadixSort);
+                        break;
+                    case 11:
+                        for (int threads : getThreadCounts()) {
+                            algorithms.add(new RadixSortingAlgorithms.ParallelLsdRadixSort(threads));
+                        }
+                        break;
+                    case 12:
+                        algorithms.add(adaptiveMergeSort);
+                        break;
+                    case 13:
+                        algorithms.add(countingSort);
+                        break;
+                    case 14:
+                        algorithms.add(blockQuickSort);
                         break;
                     default:
                         System.out.println("Invalid algorithm choice: " + algorithmChoice + ". Skipping.");
@@ -788,41 +1178,44 @@ public class ConsoleUI {
         System.out.println("\nComparing " + algorithms.size() + " sorting algorithms on an array of size " + size);
         
         Map<String, Double> results = new HashMap<>();
+        List<PerformanceResult> recorded = new ArrayList<>();
         
-        for (int i = 0; i < algorithms.size(); i++) {
-            Algorithm algorithm = algorithms.get(i);
-            Function<int[], int[]> function = functions.get(i);
-            
-            // Create a copy of the array for each algorithm
-            int[] arrayCopy = Arrays.copyOf(array, array.length);
-            
-            // Warm-up run
-            function.apply(Arrays.copyOf(arrayCopy, arrayCopy.length));
-            
-            // Run multiple times to get a more accurate measurement
-            long totalTime = 0;
-            
-            for (int j = 0; j < SORTING_RUNS; j++) {
-                int[] testArray = Arrays.copyOf(arrayCopy, arrayCopy.length);
-                long startTime = System.nanoTime();
-                function.apply(testArray);
-                long endTime = System.nanoTime();
-                totalTime += (endTime - startTime);
+        try {
+            for (InPlaceSort algorithm : algorithms) {
+                // Warm-up run
+                algorithm.sort(array);
+                
+                // Run multiple times to get a more accurate measurement.
+                // Each run sorts a fresh copy in place so only the algorithm itself is timed.
+                long totalTime = 0;
+                
+                for (int j = 0; j < SORTING_RUNS; j++) {
+                    int[] testArray = Arrays.copyOf(array, array.length);
+                    long startTime = System.nanoTime();
+                    algorithm.sortInPlace(testArray, 0, testArray.length);
+                    long endTime = System.nanoTime();
+                    totalTime += (endTime - startTime);
+                }
+                
+                // Calculate average execution time in nanoseconds, then convert to milliseconds
+                double executionTimeNs = (double) totalTime / SORTING_RUNS;
+                double executionTimeMs = executionTimeNs / 1_000_000.0;
+                
+                results.put(algorithm.getName(), executionTimeMs);
+                
+                // Add result to performance tracker
+                PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, size);
+                recordRunDetails(algorithm, result);
+                performanceTracker.addResult(result);
+                resultManager.addResult(result);
+                recorded.add(result);
             }
-            
-            // Calculate average execution time in nanoseconds, then convert to milliseconds
-            double executionTimeNs = (double) totalTime / SORTING_RUNS;
-            double executionTimeMs = executionTimeNs / 1_000_000.0;
-            
-            results.put(algorithm.getName(), executionTimeMs);
-            
-            // Add result to performance tracker
-            PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, size);
-            performanceTracker.addResult(result);
-            resultManager.addResult(result);
+        } finally {
+            closeParallelAlgorithms(algorithms);
         }
         
         displayComparisonResults(results);
+        displayComparisonDetails(recorded);
     }
     
     /**
@@ -831,88 +1224,298 @@ public class ConsoleUI {
     private void compareSearchingAlgorithms() {
         System.out.println("\nComparing Searching Algorithms");
         
-        List<Algorithm> algorithms = new ArrayList<>();
-        algorithms.add(linearSearch);
-        algorithms.add(binarySearch);
-        
-        System.out.println("\nSelect input type:");
-        System.out.println("1. Random array");
-        System.out.println("2. Sorted array");
-        
-        int inputChoice = getIntInput("Enter your choice: ");
-        int size = getIntInput("Enter array size: ");
-        
-        int[] array;
-        if (inputChoice == 1) {
-            array = dataGenerator.generateRandomIntArray(size, 0, 1000);
-        } else if (inputChoice == 2) {
-            array = dataGenerator.generateSortedIntArray(size, 0, 1000);
-        } else {
-            System.out.println("Invalid choice. Using random array.");
-            array = dataGenerator.generateRandomIntArray(size, 0, 1000);
-        }
-        
-        // For binary search, we need a sorted array
-        int[] sortedArray = Arrays.copyOf(array, array.length);
-        Arrays.sort(sortedArray);
-        
-        int target = getIntInput("Enter the value to search for: ");
-        
-        System.out.println("\nComparing searching algorithms on an array of size " + size);
-        
-        Map<String, Double> results = new HashMap<>();
-        
-        // Linear Search
-        // Warm-up run
-        linearSearch.search(array, target);
-        
-        // Run multiple times to get a more accurate measurement
-        long linearTotalTime = 0;
-        
-        for (int i = 0; i < SEARCHING_RUNS; i++) {
-            long startTime = System.nanoTime();
-            linearSearch.search(array, target);
-            long endTime = System.nanoTime();
-            linearTotalTime += (endTime - startTime);
-        }
-        
-        // Calculate average execution time in nanoseconds, then convert to milliseconds
-        double linearTimeNs = (double) linearTotalTime / SEARCHING_RUNS;
-        double linearTimeMs = linearTimeNs / 1_000_000.0;
+        System.out.println("Select algorithms to compare (comma-separated, e.g., 1,2,4):");
+        System.out.println("1. Linear Search");
+        System.out.println("2. Binary Search");
+        System.out.println("3. Branchless Binary Search");
+        System.out.println("4. Eytzinger Search");
+        System.out.println("5. Sorted Merge Search (batch)");
+        System.out.println("6. Interleaved Binary Search (batch)");
+        System.out.println("7. Interpolation Search");
+        System.out.println("8. Exponential Search");
+        System.out.println("9. Block Linear Search");
+        System.out.println("10. Parallel Linear Search");
+        System.out.println("11. Static B-Tree Search");
+        System.out.println("12. Hash Index Search");
+        System.out.println("13. Hash Index Search (Bloom filter)");
+        System.out.println("14. Learned Index Search");
         
-        results.put(linearSearch.getName(), linearTimeMs);
+        String input = scanner.next();
+        String[] choices = input.split(",");
         
-        // Add result to performance tracker
-        PerformanceResult linearResult = new PerformanceResult(linearSearch, linearTimeMs, size);
-        performanceTracker.addResult(linearResult);
-        resultManager.addResult(linearResult);
+        List<SearchAlgorithm> algorithms = new ArrayList<>();
         
-        // Binary Search (on sorted array)
-        // Warm-up run
-        binarySearch.search(sortedArray, target);
+        for (String choice : choices) {
+            try {
+                int algorithmChoice = Integer.parseInt(choice.trim());
+                
+                switch (algorithmChoice) {
+                    case 1:
+                        algorithms.add(linearSearch);
+                        break;
+                    case 2:
+                        algorithms.add(binarySearch);
+                        break;
+                    case 3:
+                        algorithms.add(branchlessBinarySearch);
+                        break;
+                    case 4:
+                        algorithms.add(eytzingerSearch);
+                        break;
+                    case 5:
+                        algorithms.add(sortedMergeSearch);
+                        break;
+                    case 6:
+                        algorithms.add(interleavedBinarySearch);
+                        break;
+                    case 7:
+                        algorithms.add(interpolationSearch);
+                        break;
+                    case 8:
+                        algorithms.add(exponentialSearch);
+                        break;
+                    case 9:
+                        algorithms.add(blockLinearSearch);
+                        break;
+                    case 10:
+                        for (int threads : getThreadCounts()) {
+                            algorithms.add(new SearchingAlgorithms.ParallelLinearSearch(threads));
+                        }
+                        break;
+                    case 11:
+                        algorithms.add(staticBTreeSearch);
+                        break;
+                    case 12:
+                        algorithms.add(hashIndexSearch);
+                        break;
+                    case 13:
+                        algorithms.add(bloomHashIndexSearch);
+                        break;
+                    case 14:
+                        // One instance per error bound to show the trade-off between model size and probes
+                        for (int errorBound : LEARNED_INDEX_ERROR_BOUNDS) {
+                            algorithms.add(new SearchingAlgorithms.LearnedIndexSearch(errorBound));
+                        }
+                        break;
+                    default:
+                        System.out.println("Invalid algorithm choice: " + algorithmChoice + ". Skipping.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input: " + choice + ". Skipping.");
+            }
+        }
         
-        // Run multiple times to get a more accurate measurement
-        long binaryTotalTime = 0;
+        if (algorithms.isEmpty()) {
+            System.out.println("No valid algorithms selected. Returning to main menu.");
+            return;
+        }
         
-        for (int i = 0; i < SEARCHING_RUNS; i++) {
-            long startTime = System.nanoTime();
-            binarySearch.search(sortedArray, target);
-            long endTime = System.nanoTime();
-            binaryTotalTime += (endTime - startTime);
+        System.out.println("\nSelect input type:");
+        System.out.println("1. Random array");
+        System.out.println("2. Sorted array");
+        System.out.println("3. Skewed array (values concentrated near zero)");
+        
+        int inputChoice = getIntInput("Enter your choice: ");
+        int size = getIntInput("Enter array size: ");
+        
+        int[] array;
+        if (inputChoice == 1) {
+            array = dataGenerator.generateRandomIntArray(size, 0, 1000);
+        } else if (inputChoice == 2) {
+            array = dataGenerator.generateSortedIntArray(size, 0, 1000);
+        } else if (inputChoice == 3) {
+            array = dataGenerator.generateSkewedIntArray(size, 0, 1_000_000);
+        } else {
+            System.out.println("Invalid choice. Using random array.");
+            array = dataGenerator.generateRandomIntArray(size, 0, 1000);
         }
         
-        // Calculate average execution time in nanoseconds, then convert to milliseconds
-        double binaryTimeNs = (double) binaryTotalTime / SEARCHING_RUNS;
-        double binaryTimeMs = binaryTimeNs / 1_000_000.0;
+        // Algorithms such as binary search need a sorted array
+        int[] sortedArray = Arrays.copyOf(array, array.length);
+        Arrays.sort(sortedArray);
         
-        results.put(binarySearch.getName(), binaryTimeMs);
+        int target = getIntInput("Enter the value to search for: ");
         
-        // Add result to performance tracker
-        PerformanceResult binaryResult = new PerformanceResult(binarySearch, binaryTimeMs, size);
-        performanceTracker.addResult(binaryResult);
-        resultManager.addResult(binaryResult);
+        // Targets drawn from the array itself, so every random query is a hit
+        int[] queries = new int[RANDOM_QUERIES];
+        if (size > 0) {
+            int[] positions = dataGenerator.generateRandomIntArray(RANDOM_QUERIES, 0, size);
+            for (int i = 0; i < RANDOM_QUERIES; i++) {
+                queries[i] = array[positions[i]];
+            }
+        }
+        
+        // Targets outside the array, which show the cost of unsuccessful lookups
+        int[] missingQueries = dataGenerator.generateRandomIntArray(RANDOM_QUERIES, Integer.MIN_VALUE / 2, Integer.MAX_VALUE / 2);
+        int missing = 0;
+        for (int query : missingQueries) {
+            if (Arrays.binarySearch(sortedArray, query) < 0) {
+                missingQueries[missing++] = query;
+            }
+        }
+        missingQueries = Arrays.copyOf(missingQueries, missing);
+        
+        System.out.println("\nComparing searching algorithms on an array of size " + size);
+        
+        Map<String, Double> results = new HashMap<>();
+        List<PerformanceResult> recorded = new ArrayList<>();
+        
+        try {
+            for (SearchAlgorithm algorithm : algorithms) {
+                int[] searched = algorithm.requiresSortedInput() ? sortedArray : array;
+                
+                // Warm-up run, which also builds any search structure the algorithm keeps for this array
+                algorithm.search(searched, target);
+                
+                // Time a second, warm build on its own so that it is not counted in the query cost
+                double buildTimeMs = -1;
+                if (algorithm.buildsIndex()) {
+                    long buildStart = System.nanoTime();
+                    algorithm.prepare(searched);
+                    buildTimeMs = (System.nanoTime() - buildStart) / 1_000_000.0;
+                }
+                
+                // Run multiple times to get a more accurate measurement
+                long totalTime = 0;
+                
+                for (int i = 0; i < SEARCHING_RUNS; i++) {
+                    long startTime = System.nanoTime();
+                    algorithm.search(searched, target);
+                    long endTime = System.nanoTime();
+                    totalTime += (endTime - startTime);
+                }
+                
+                // Calculate average execution time in nanoseconds, then convert to milliseconds
+                double executionTimeNs = (double) totalTime / SEARCHING_RUNS;
+                double executionTimeMs = executionTimeNs / 1_000_000.0;
+                
+                results.put(algorithm.getName(), executionTimeMs);
+                
+                // Add result to performance tracker
+                PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, size);
+                recordRunDetails(algorithm, result);
+                result.setBuildTime(buildTimeMs);
+                if (size > 0) {
+                    // The first pass warms up the JIT and the caches; the second is measured
+                    measureRandomQueryLatency(algorithm, searched, queries, true);
+                    double latencyNs = measureRandomQueryLatency(algorithm, searched, queries, true);
+                    result.addDetail("Random query latency (ns)", String.format("%.1f", latencyNs));
+                    result.setQueryTime(latencyNs);
+                    
+                    if (missingQueries.length > 0) {
+                        measureRandomQueryLatency(algorithm, searched, missingQueries, false);
+                        double missLatencyNs = measureRandomQueryLatency(algorithm, searched, missingQueries, false);
+                        result.addDetail("Missing query latency (ns)", String.format("%.1f", missLatencyNs));
+                    }
+                    
+                    measureBatchThroughput(algorithm, searched, queries);
+                    double lookupsPerSecond = measureBatchThroughput(algorithm, searched, queries);
+                    result.addDetail("Batch throughput (lookups/s)", String.format("%.0f", lookupsPerSecond));
+                }
+                performanceTracker.addResult(result);
+                resultManager.addResult(result);
+                recorded.add(result);
+            }
+        } finally {
+            closeParallelAlgorithms(algorithms);
+        }
+        
+        addBreakEvenDetails(recorded);
         
         displayComparisonResults(results);
+        displayComparisonDetails(recorded);
+    }
+    
+    /**
+     * Adds, to each compared algorithm with a build phase, the number of random queries after
+     * which its build cost is paid back against Binary Search, if Binary Search was compared.
+     * 
+     * @param results The performance results of the comparison
+     */
+    private void addBreakEvenDetails(List<PerformanceResult> results) {
+        PerformanceResult baseline = results.stream()
+                .filter(r -> r.getAlgorithm() == binarySearch)
+                .findFirst()
+                .orElse(null);
+        
+        if (baseline == null) {
+            return;
+        }
+        
+        for (PerformanceResult result : results) {
+            if (result.getBuildTime() >= 0) {
+                long breakEven = performanceTracker.getBreakEvenQueryCount(result, baseline);
+                result.addDetail("Break-even vs Binary Search (queries)", breakEven >= 0 ? String.valueOf(breakEven) : "never");
+            }
+        }
+    }
+    
+    /**
+     * Measures the average time per query over a sequence of different targets. Unlike
+     * repeating one target, this exposes the cache misses and branch mispredictions that
+     * dominate searches in arrays larger than the CPU caches.
+     * Stops early once the time budget is spent, so slow algorithms finish in bounded time.
+     * 
+     * @param algorithm The searching algorithm
+     * @param array The array to search in
+     * @param queries The targets to search for
+     * @param present Whether every target is in the array, or none is
+     * @return The average time per query in nanoseconds
+     */
+    private double measureRandomQueryLatency(SearchAlgorithm algorithm, int[] array, int[] queries, boolean present) {
+        int count = 0;
+        int found = 0;
+        long startTime = System.nanoTime();
+        long elapsed = 0;
+        
+        while (count < queries.length && elapsed < RANDOM_QUERY_BUDGET_NS) {
+            int end = Math.min(count + 64, queries.length);
+            for (; count < end; count++) {
+                if (algorithm.search(array, queries[count]) >= 0) {
+                    found++;
+                }
+            }
+            elapsed = System.nanoTime() - startTime;
+        }
+        
+        int wrong = present ? count - found : found;
+        if (wrong > 0) {
+            System.out.println("Warning: " + algorithm.getName() + " answered " + wrong + " of " + count + " random queries wrongly.");
+        }
+        
+        return (double) elapsed / count;
+    }
+    
+    /**
+     * Measures the throughput of the batch search API, handing the queries over in batches
+     * of BATCH_QUERIES as a service would for one request.
+     * Stops early once the time budget is spent, so slow algorithms finish in bounded time.
+     * 
+     * @param algorithm The searching algorithm
+     * @param array The array to search in
+     * @param queries The targets to search for
+     * @return The number of lookups per second
+     */
+    private double measureBatchThroughput(SearchAlgorithm algorithm, int[] array, int[] queries) {
+        // Slice the batches before timing so that only the searchAll calls are measured
+        int[][] batches = new int[(queries.length + BATCH_QUERIES - 1) / BATCH_QUERIES][];
+        for (int b = 0; b < batches.length; b++) {
+            int from = b * BATCH_QUERIES;
+            batches[b] = Arrays.copyOfRange(queries, from, Math.min(from + BATCH_QUERIES, queries.length));
+        }
+        
+        int[] out = new int[BATCH_QUERIES];
+        int count = 0;
+        long startTime = System.nanoTime();
+        long elapsed = 0;
+        
+        for (int b = 0; b < batches.length && elapsed < RANDOM_QUERY_BUDGET_NS; b++) {
+            algorithm.searchAll(array, batches[b], out);
+            count += batches[b].length;
+            elapsed = System.nanoTime() - startTime;
+        }
+        
+        return count / (elapsed / 1_000_000_000.0);
     }
     
     /**
@@ -925,6 +1528,13 @@ public class ConsoleUI {
         System.out.println("1. Depth-First Search");
         System.out.println("2. Breadth-First Search");
         System.out.println("3. Dijkstra's Algorithm");
+        System.out.println("4. Dijkstra (indexed 4-ary heap)");
+        System.out.println("5. Dijkstra (lazy binary heap)");
+        System.out.println("6. Depth-First Search (iterative)");
+        System.out.println("7. Breadth-First Search (primitive)");
+        System.out.println("8. Breadth-First Search (direction-optimizing)");
+        System.out.println("9. Parallel BFS (1, 2, 4... threads)");
+        System.out.println("10. Delta-Stepping Shortest Paths (1, 2, 4... threads)");
         
         String input = scanner.next();
         String[] choices = input.split(",");
@@ -945,6 +1555,33 @@ public class ConsoleUI {
                     case 3:
                         algorithms.add(dijkstra);
                         break;
+                    case 4:
+                        algorithms.add(heapDijkstra);
+                        break;
+                    case 5:
+                        algorithms.add(lazyHeapDijkstra);
+                        break;
+                    case 6:
+                        algorithms.add(iterativeDfs);
+                        break;
+                    case 7:
+                        algorithms.add(primitiveBfs);
+                        break;
+                    case 8:
+                        algorithms.add(directionOptimizingBfs);
+                        break;
+                    case 9:
+                        // One instance per thread count so the speedup curve sits next to the serial traversals
+                        for (int threads : getThreadCounts()) {
+                            algorithms.add(new GraphAlgorithms.ParallelBreadthFirstSearch(threads));
+                        }
+                        break;
+                    case 10:
+                        int delta = getDeltaInput();
+                        for (int threads : getThreadCounts()) {
+                            algorithms.add(new GraphAlgorithms.DeltaSteppingAlgorithm(delta, threads));
+                        }
+                        break;
                     default:
                         System.out.println("Invalid algorithm choice: " + algorithmChoice + ". Skipping.");
                 }
@@ -958,17 +1595,41 @@ public class ConsoleUI {
             return;
         }
         
+        System.out.println("\nSelect graph representation:");
+        System.out.println("1. Adjacency list");
+        System.out.println("2. Compressed sparse row (CSR)");
+        System.out.println("3. Both");
+        
+        int representation = getIntInput("Enter your choice: ");
+        if (representation < 1 || representation > 3) {
+            System.out.println("Invalid choice. Using adjacency list.");
+            representation = 1;
+        }
+        
         int vertices = getIntInput("Enter number of vertices: ");
         int edges = getIntInput("Enter number of edges: ");
         int maxWeight = getIntInput("Enter maximum edge weight: ");
         
-        Graph graph = dataGenerator.generateRandomGraph(vertices, edges, maxWeight);
+        Graph graph = null;
+        CsrGraph csrGraph = null;
         
-        printGraph(graph);
+        if (representation == 2) {
+            // Generated directly, so large graphs never materialize Edge objects
+            csrGraph = dataGenerator.generateRandomCsrGraph(vertices, edges, maxWeight);
+            System.out.println("\nGenerated CSR graph with " + csrGraph.getVertices() + " vertices and " + csrGraph.getEdgeCount() + " edges ("
+                    + csrGraph.sizeInBytes() / 1024 + " KB)");
+        } else {
+            graph = dataGenerator.generateRandomGraph(vertices, edges, maxWeight);
+            printGraph(graph);
+            
+            if (representation == 3) {
+                csrGraph = CsrGraph.fromGraph(graph);
+            }
+        }
         
         int startVertex = getIntInput("Enter the starting vertex: ");
         
-        if (startVertex < 0 || startVertex >= graph.getVertices()) {
+        if (startVertex < 0 || startVertex >= vertices) {
             System.out.println("Invalid vertex. Using vertex 0.");
             startVertex = 0;
         }
@@ -976,72 +1637,319 @@ public class ConsoleUI {
         System.out.println("\nComparing graph algorithms on a graph with " + vertices + " vertices and " + edges + " edges");
         
         Map<String, Double> results = new HashMap<>();
-        
-        for (Algorithm algorithm : algorithms) {
-            double executionTimeMs;
-            
-            if (algorithm == dfs) {
-                // Warm-up run
-                dfs.traverse(graph, startVertex);
-                
-                // Run multiple times to get a more accurate measurement
-                long totalTime = 0;
-                
-                for (int i = 0; i < GRAPH_RUNS; i++) {
-                    long startTime = System.nanoTime();
-                    dfs.traverse(graph, startVertex);
-                    long endTime = System.nanoTime();
-                    totalTime += (endTime - startTime);
+        List<PerformanceResult> recorded = new ArrayList<>();
+        int start = startVertex;
+        int[] order = new int[vertices];
+        
+        try {
+            for (Algorithm algorithm : algorithms) {
+                if (graph != null) {
+                    Graph adjacencyGraph = graph;
+                    double executionTimeMs;
+                    try {
+                        executionTimeMs = measureGraphRuns(() -> runOnGraph(algorithm, adjacencyGraph, start, order));
+                    } catch (StackOverflowError e) {
+                        // The recursive DFS needs a stack frame per vertex on the path
+                        System.out.println(algorithm.getName() + " overflowed the call stack on this graph. Skipping.");
+                        continue;
+                    }
+                    long allocatedBytes = measureGraphAllocation(() -> runOnGraph(algorithm, adjacencyGraph, start, order));
+                    
+                    results.put(algorithm.getName(), executionTimeMs);
+                    
+                    // Add result to performance tracker
+                    PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, vertices);
+                    if (csrGraph != null) {
+                        result.addDetail("Graph representation", "Adjacency list");
+                    }
+                    recordRunDetails(algorithm, result);
+                    addAllocationDetail(result, allocatedBytes);
+                    performanceTracker.addResult(result);
+                    resultManager.addResult(result);
+                    recorded.add(result);
                 }
                 
-                // Calculate average execution time in nanoseconds, then convert to milliseconds
-                double executionTimeNs = (double) totalTime / GRAPH_RUNS;
-                executionTimeMs = executionTimeNs / 1_000_000.0;
-            } else if (algorithm == bfs) {
-                // Warm-up run
-                bfs.traverse(graph, startVertex);
-                
-                // Run multiple times to get a more accurate measurement
-                long totalTime = 0;
-                
-                for (int i = 0; i < GRAPH_RUNS; i++) {
-                    long startTime = System.nanoTime();
-                    bfs.traverse(graph, startVertex);
-                    long endTime = System.nanoTime();
-                    totalTime += (endTime - startTime);
+                if (csrGraph != null) {
+                    CsrGraph csr = csrGraph;
+                    double executionTimeMs;
+                    try {
+                        executionTimeMs = measureGraphRuns(() -> runOnCsrGraph(algorithm, csr, start, order));
+                    } catch (StackOverflowError e) {
+                        System.out.println(algorithm.getName() + " (CSR) overflowed the call stack on this graph. Skipping.");
+                        continue;
+                    }
+                    long allocatedBytes = measureGraphAllocation(() -> runOnCsrGraph(algorithm, csr, start, order));
+                    
+                    results.put(algorithm.getName() + " (CSR)", executionTimeMs);
+                    
+                    PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, vertices);
+                    result.addDetail("Graph representation", "CSR");
+                    result.addDetail("Graph size (KB)", String.valueOf(csr.sizeInBytes() / 1024));
+                    recordRunDetails(algorithm, result);
+                    addAllocationDetail(result, allocatedBytes);
+                    performanceTracker.addResult(result);
+                    resultManager.addResult(result);
+                    recorded.add(result);
                 }
+            }
+        } finally {
+            closeParallelAlgorithms(algorithms);
+        }
+        
+        displayComparisonResults(results);
+        displayComparisonDetails(recorded);
+    }
+    
+    /**
+     * Gets the bucket width for delta-stepping from the user.
+     * 
+     * @return The delta, at least 1
+     */
+    private int getDeltaInput() {
+        int delta = getIntInput("Enter delta (bucket width; edges of at most this weight are light): ");
+        if (delta < 1) {
+            System.out.println("Invalid delta. Using 1.");
+            delta = 1;
+        }
+        return delta;
+    }
+    
+    /**
+     * Measures the average execution time of a graph algorithm run after one warm-up run.
+     * 
+     * @param run The run to measure
+     * @return The average execution time in milliseconds
+     */
+    private double measureGraphRuns(Runnable run) {
+        // Warm-up run
+        run.run();
+        
+        // Run multiple times to get a more accurate measurement
+        long totalTime = 0;
+        
+        for (int i = 0; i < GRAPH_RUNS; i++) {
+            long startTime = System.nanoTime();
+            run.run();
+            long endTime = System.nanoTime();
+            totalTime += (endTime - startTime);
+        }
+        
+        // Calculate average execution time in nanoseconds, then convert to milliseconds
+        double executionTimeNs = (double) totalTime / GRAPH_RUNS;
+        return executionTimeNs / 1_000_000.0;
+    }
+    
+    /**
+     * Measures the heap memory allocated by one graph algorithm run on the current thread.
+     * 
+     * @param run The run to measure
+     * @return The number of bytes allocated, or -1 if the JVM does not count allocation per thread
+     */
+    private long measureGraphAllocation(Runnable run) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        
+        long before = threads.getCurrentThreadAllocatedBytes();
+        run.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+    
+    /**
+     * Adds the memory allocated by one run to a graph algorithm result, if it was measured.
+     * 
+     * @param result The result
+     * @param allocatedBytes The number of bytes allocated, or -1 if not measured
+     */
+    private void addAllocationDetail(PerformanceResult result, long allocatedBytes) {
+        if (allocatedBytes >= 0) {
+            result.addDetail("Allocated per run (KB)", String.format("%.1f", allocatedBytes / 1024.0));
+        }
+    }
+    
+    /**
+     * Runs a graph algorithm once on an adjacency list graph.
+     * 
+     * @param algorithm The graph algorithm
+     * @param graph The graph
+     * @param startVertex The starting vertex
+     * @param order Receives the visit order of traversals that write into a preallocated array
+     */
+    private void runOnGraph(Algorithm algorithm, Graph graph, int startVertex, int[] order) {
+        if (algorithm == dfs) {
+            dfs.traverse(graph, startVertex);
+        } else if (algorithm == iterativeDfs) {
+            iterativeDfs.traverse(graph, startVertex, order);
+        } else if (algorithm == bfs) {
+            bfs.traverse(graph, startVertex);
+        } else if (algorithm == primitiveBfs) {
+            primitiveBfs.traverse(graph, startVertex, order);
+        } else if (algorithm == directionOptimizingBfs) {
+            directionOptimizingBfs.traverse(graph, startVertex, order, null);
+        } else if (algorithm instanceof GraphAlgorithms.ParallelBreadthFirstSearch parallel) {
+            parallel.traverse(graph, startVertex, order, null);
+        } else if (algorithm instanceof GraphAlgorithms.DeltaSteppingAlgorithm deltaStepping) {
+            deltaStepping.findShortestPaths(graph, startVertex);
+        } else if (algorithm == heapDijkstra) {
+            heapDijkstra.findShortestPaths(graph, startVertex);
+        } else if (algorithm == lazyHeapDijkstra) {
+            lazyHeapDijkstra.findShortestPaths(graph, startVertex);
+        } else { // Dijkstra
+            dijkstra.findShortestPaths(graph, startVertex);
+        }
+    }
+    
+    /**
+     * Runs a graph algorithm once on a CSR graph.
+     * 
+     * @param algorithm The graph algorithm
+     * @param graph The graph
+     * @param startVertex The starting vertex
+     * @param order Receives the visit order of traversals that write into a preallocated array
+     */
+    private void runOnCsrGraph(Algorithm algorithm, CsrGraph graph, int startVertex, int[] order) {
+        if (algorithm == dfs) {
+            dfs.traverse(graph, startVertex);
+        } else if (algorithm == iterativeDfs) {
+            iterativeDfs.traverse(graph, startVertex, order);
+        } else if (algorithm == bfs) {
+            bfs.traverse(graph, startVertex);
+        } else if (algorithm == primitiveBfs) {
+            primitiveBfs.traverse(graph, startVertex, order);
+        } else if (algorithm == directionOptimizingBfs) {
+            directionOptimizingBfs.traverse(graph, startVertex, order, null);
+        } else if (algorithm instanceof GraphAlgorithms.ParallelBreadthFirstSearch parallel) {
+            parallel.traverse(graph, startVertex, order, null);
+        } else if (algorithm instanceof GraphAlgorithms.DeltaSteppingAlgorithm deltaStepping) {
+            deltaStepping.findShortestPaths(graph, startVertex);
+        } else if (algorithm == heapDijkstra) {
+            heapDijkstra.findShortestPaths(graph, startVertex);
+        } else if (algorithm == lazyHeapDijkstra) {
+            lazyHeapDijkstra.findShortestPaths(graph, startVertex);
+        } else { // Dijkstra
+            dijkstra.findShortestPaths(graph, startVertex);
+        }
+    }
+    
+    /**
+     * Compares selection algorithms against sorting the whole array and slicing it.
+     */
+    private void compareSelectionAlgorithms() {
+        System.out.println("\nComparing Selection Algorithms");
+        
+        System.out.println("Select algorithms to compare (comma-separated, e.g., 1,3,5):");
+        System.out.println("1. Quickselect");
+        System.out.println("2. Median of Medians");
+        System.out.println("3. Floyd-Rivest");
+        System.out.println("4. Heap Top-K");
+        System.out.println("5. Full Sort + Slice (Quick Sort)");
+        
+        String input = scanner.next();
+        String[] choices = input.split(",");
+        
+        List<SelectionAlgorithm> algorithms = new ArrayList<>();
+        
+        for (String choice : choices) {
+            try {
+                int algorithmChoice = Integer.parseInt(choice.trim());
                 
-                // Calculate average execution time in nanoseconds, then convert to milliseconds
-                double executionTimeNs = (double) totalTime / GRAPH_RUNS;
-                executionTimeMs = executionTimeNs / 1_000_000.0;
-            } else { // Dijkstra
-                // Warm-up run
-                dijkstra.findShortestPaths(graph, startVertex);
-                
-                // Run multiple times to get a more accurate measurement
-                long totalTime = 0;
-                
-                for (int i = 0; i < GRAPH_RUNS; i++) {
-                    long startTime = System.nanoTime();
-                    dijkstra.findShortestPaths(graph, startVertex);
-                    long endTime = System.nanoTime();
-                    totalTime += (endTime - startTime);
+                switch (algorithmChoice) {
+                    case 1:
+                        algorithms.add(quickSelect);
+                        break;
+                    case 2:
+                        algorithms.add(medianOfMedians);
+                        break;
+                    case 3:
+                        algorithms.add(floydRivest);
+                        break;
+                    case 4:
+                        algorithms.add(heapTopK);
+                        break;
+                    case 5:
+                        algorithms.add(fullSortSelection);
+                        break;
+                    default:
+                        System.out.println("Invalid algorithm choice: " + algorithmChoice + ". Skipping.");
                 }
-                
-                // Calculate average execution time in nanoseconds, then convert to milliseconds
-                double executionTimeNs = (double) totalTime / GRAPH_RUNS;
-                executionTimeMs = executionTimeNs / 1_000_000.0;
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input: " + choice + ". Skipping.");
+            }
+        }
+        
+        if (algorithms.isEmpty()) {
+            System.out.println("No valid algorithms selected. Returning to main menu.");
+            return;
+        }
+        
+        System.out.println("\nSelect input type:");
+        System.out.println("1. Random array");
+        System.out.println("2. Nearly sorted array");
+        System.out.println("3. Array with many duplicates");
+        
+        int inputChoice = getIntInput("Enter your choice: ");
+        int size = getIntInput("Enter array size: ");
+        
+        int[] array;
+        switch (inputChoice) {
+            case 1:
+                array = dataGenerator.generateRandomIntArray(size, 0, 1000);
+                break;
+            case 2:
+                array = dataGenerator.generateNearlySortedIntArray(size, 0, 1000, 0.1);
+                break;
+            case 3:
+                int uniqueValues = getIntInput("Enter number of unique values: ");
+                array = dataGenerator.generateArrayWithDuplicates(size, uniqueValues);
+                break;
+            default:
+                System.out.println("Invalid choice. Using random array.");
+                array = dataGenerator.generateRandomIntArray(size, 0, 1000);
+        }
+        
+        int k = getIntInput("Enter k (number of smallest elements to select, " + size / 2 + " for the median): ");
+        if (k < 1 || k > size) {
+            System.out.println("k must be between 1 and the array size. Returning to main menu.");
+            return;
+        }
+        
+        System.out.println("\nSelecting the " + k + " smallest of " + size + " elements");
+        
+        Map<String, Double> results = new HashMap<>();
+        List<PerformanceResult> recorded = new ArrayList<>();
+        
+        for (SelectionAlgorithm algorithm : algorithms) {
+            // Warm-up run
+            int[] selected = algorithm.smallest(array, k);
+            
+            // Run multiple times to get a more accurate measurement
+            long totalTime = 0;
+            
+            for (int j = 0; j < SORTING_RUNS; j++) {
+                long startTime = System.nanoTime();
+                algorithm.smallest(array, k);
+                long endTime = System.nanoTime();
+                totalTime += (endTime - startTime);
             }
             
+            // Calculate average execution time in nanoseconds, then convert to milliseconds
+            double executionTimeNs = (double) totalTime / SORTING_RUNS;
+            double executionTimeMs = executionTimeNs / 1_000_000.0;
+            
             results.put(algorithm.getName(), executionTimeMs);
             
-            // Add result to performance tracker
-            PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, vertices);
+            // The largest selected element is the k-th smallest, which every algorithm must agree on
+            PerformanceResult result = new PerformanceResult(algorithm, executionTimeMs, size);
+            result.addDetail("k", String.valueOf(k));
+            result.addDetail("k-th smallest", String.valueOf(Arrays.stream(selected).max().getAsInt()));
             performanceTracker.addResult(result);
             resultManager.addResult(result);
+            recorded.add(result);
         }
         
         displayComparisonResults(results);
+        displayComparisonDetails(recorded);
     }
     
     /**
@@ -1077,6 +1985,66 @@ public class ConsoleUI {
         System.out.printf("Speedup compared to slowest: %.2fx\n", speedup);
     }
     
+    /**
+     * Displays the run details of compared algorithms that reported any, such as the code path taken.
+     * 
+     * @param results The performance results of the comparison
+     */
+    private void displayComparisonDetails(List<PerformanceResult> results) {
+        List<PerformanceResult> detailed = results.stream()
+                .filter(r -> !r.getDetails().isEmpty())
+                .collect(Collectors.toList());
+        
+        if (detailed.isEmpty()) {
+            return;
+        }
+        
+        System.out.println("\nRun details:");
+        for (PerformanceResult result : detailed) {
+            String details = result.getDetails().entrySet().stream()
+                    .map(e -> e.getKey() + "=" + e.getValue())
+                    .collect(Collectors.joining(", "));
+            System.out.println(result.getAlgorithm().getName() + ": " + details);
+        }
+    }
+    
+    /**
+     * Shuts down the worker threads of the parallel algorithms among those compared, so that
+     * the instances created for each comparison leave no threads behind.
+     * 
+     * @param algorithms The compared algorithms
+     */
+    private void closeParallelAlgorithms(List<? extends Algorithm> algorithms) {
+        for (Algorithm algorithm : algorithms) {
+            if (algorithm instanceof ParallelAlgorithm parallel) {
+                parallel.close();
+            }
+        }
+    }
+    
+    /**
+     * Copies the details of an instrumented algorithm's most recent run into a performance result.
+     * 
+     * @param algorithm The algorithm that was run
+     * @param result The performance result of the run
+     */
+    private void recordRunDetails(Algorithm algorithm, PerformanceResult result) {
+        if (algorithm instanceof InstrumentedAlgorithm instrumented) {
+            result.addDetails(instrumented.getLastRunDetails());
+        }
+    }
+    
+    /**
+     * Prints the details recorded for a run, one per line.
+     * 
+     * @param result The performance result
+     */
+    private void printRunDetails(PerformanceResult result) {
+        for (Map.Entry<String, String> detail : result.getDetails().entrySet()) {
+            System.out.println(detail.getKey() + ": " + detail.getValue());
+        }
+    }
+    
     /**
      * Displays the view results menu.
      */
@@ -1126,6 +2094,7 @@ public class ConsoleUI {
                     System.out.println("1. Sorting");
                     System.out.println("2. Searching");
                     System.out.println("3. Graph");
+                    System.out.println("4. Selection");
                     
                     int categoryChoice = getIntInput("Enter your choice: ");
                     AlgorithmCategory category;
@@ -1140,6 +2109,9 @@ public class ConsoleUI {
                         case 3:
                             category = AlgorithmCategory.GRAPH;
                             break;
+                        case 4:
+                            category = AlgorithmCategory.SELECTION;
+                            break;
                         default:
                             System.out.println("Invalid category. Using Sorting.");
                             category = AlgorithmCategory.SORTING;
@@ -1225,6 +2197,24 @@ public class ConsoleUI {
         }
     }
     
+    /**
+     * Gets the thread counts used for speedup measurements: powers of two up to
+     * the number of available processors, plus the processor count itself.
+     * 
+     * @return The thread counts in ascending order
+     */
+    private List<Integer> getThreadCounts() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<Integer> threadCounts = new ArrayList<>();
+        
+        for (int threads = 1; threads < processors; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(processors);
+        
+        return threadCounts;
+    }
+    
     /**
      * Gets an integer input from the user.
      * 